@@ -0,0 +1,119 @@
+package com.holidayanalyzer.benchmark;
+
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic data for one country: {@code regions} regions, each with
+ * {@code schoolHolidaysPerYear} school holidays per year spread evenly over the year, twelve
+ * national public holidays per year and two regional ones per region and year.
+ */
+public final class BenchmarkDataset {
+
+    public static final String COUNTRY_CODE = "BM";
+    public static final int FIRST_YEAR = 2020;
+    public static final int YEARS = 8;
+
+    private static final String[] SCHOOL_HOLIDAY_NAMES = {
+            "Winterferien", "Osterferien", "Pfingstferien", "Sommerferien", "Herbstferien", "Weihnachtsferien"
+    };
+
+    private final Country country;
+    private final List<Region> regions;
+    private final List<SchoolHoliday> schoolHolidays;
+    private final List<Holiday> holidays;
+
+    private BenchmarkDataset(Country country, List<Region> regions,
+                             List<SchoolHoliday> schoolHolidays, List<Holiday> holidays) {
+        this.country = country;
+        this.regions = regions;
+        this.schoolHolidays = schoolHolidays;
+        this.holidays = holidays;
+    }
+
+    public static BenchmarkDataset generate(int regionCount, int schoolHolidaysPerYear) {
+        Random random = new Random(42);
+        Country country = new Country(COUNTRY_CODE, "Benchmarkland", 0L);
+        country.setId(1L);
+
+        List<Region> regions = new ArrayList<>(regionCount);
+        long population = 0;
+        for (int r = 0; r < regionCount; r++) {
+            Region region = new Region();
+            region.setId((long) r + 1);
+            region.setCode(String.format("%s-%04d", COUNTRY_CODE, r));
+            region.setName("Region " + r);
+            region.setCountry(country);
+            region.setPopulation(100_000L + random.nextInt(10_000_000));
+            population += region.getPopulation();
+            regions.add(region);
+        }
+        country.setPopulation(population);
+
+        List<SchoolHoliday> schoolHolidays = new ArrayList<>();
+        List<Holiday> holidays = new ArrayList<>();
+        int slot = 365 / schoolHolidaysPerYear;
+        for (int year = FIRST_YEAR; year < FIRST_YEAR + YEARS; year++) {
+            LocalDate jan1 = LocalDate.of(year, 1, 1);
+            for (Region region : regions) {
+                for (int k = 0; k < schoolHolidaysPerYear; k++) {
+                    LocalDate start = jan1.plusDays((long) k * slot + random.nextInt(Math.max(1, slot / 3)));
+                    SchoolHoliday sh = new SchoolHoliday();
+                    sh.setId((long) schoolHolidays.size() + 1);
+                    sh.setName(SCHOOL_HOLIDAY_NAMES[k % SCHOOL_HOLIDAY_NAMES.length]);
+                    sh.setStartDate(start);
+                    sh.setEndDate(start.plusDays(2 + random.nextInt(Math.max(1, Math.min(42, slot / 2)))));
+                    sh.setYear(year);
+                    sh.setRegion(region);
+                    schoolHolidays.add(sh);
+                }
+                for (int k = 0; k < 2; k++) {
+                    holidays.add(holiday(holidays.size() + 1, country, region,
+                            jan1.plusDays(random.nextInt(365)), "Regionaler Feiertag " + k));
+                }
+            }
+            for (int k = 0; k < 12; k++) {
+                holidays.add(holiday(holidays.size() + 1, country, null,
+                        jan1.plusDays(k * 30L + random.nextInt(30)), "Feiertag " + k));
+            }
+        }
+        return new BenchmarkDataset(country, List.copyOf(regions), List.copyOf(schoolHolidays), List.copyOf(holidays));
+    }
+
+    private static Holiday holiday(long id, Country country, Region region, LocalDate date, String name) {
+        Holiday h = new Holiday();
+        h.setId(id);
+        h.setCountry(country);
+        h.setCountryCode(country.getCode());
+        h.setRegion(region);
+        h.setDate(date);
+        h.setYear(date.getYear());
+        h.setLocalName(name);
+        h.setEnglishName(name);
+        h.setGlobalHoliday(region == null);
+        return h;
+    }
+
+    public Country getCountry() {
+        return country;
+    }
+
+    public List<Region> getRegions() {
+        return regions;
+    }
+
+    public List<SchoolHoliday> getSchoolHolidays() {
+        return schoolHolidays;
+    }
+
+    public List<Holiday> getHolidays() {
+        return holidays;
+    }
+}
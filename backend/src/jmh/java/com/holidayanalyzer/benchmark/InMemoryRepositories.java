@@ -0,0 +1,144 @@
+package com.holidayanalyzer.benchmark;
+
+import com.holidayanalyzer.dto.HolidayView;
+import com.holidayanalyzer.dto.SchoolHolidayView;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Repository fakes answering the finder methods used on the benchmarked paths from a
+ * {@link BenchmarkDataset}, so that benchmarks measure the service code rather than the
+ * database. Holiday rows are converted to their read views once and pre-grouped by year;
+ * date range finders scan all of them. Any other
+ * repository method throws {@link UnsupportedOperationException}.
+ */
+public final class InMemoryRepositories {
+
+    private final BenchmarkDataset dataset;
+    private final List<SchoolHolidayView> schoolHolidays;
+    private final List<HolidayView> holidays;
+    private final Map<Integer, List<SchoolHolidayView>> schoolHolidaysByYear;
+    private final Map<Integer, List<HolidayView>> holidaysByYear;
+    private final Map<String, Region> regionsByCode;
+
+    public InMemoryRepositories(BenchmarkDataset dataset) {
+        this.dataset = dataset;
+        this.schoolHolidays = dataset.getSchoolHolidays().stream().map(SchoolHolidayView::of).toList();
+        this.holidays = dataset.getHolidays().stream().map(HolidayView::of).toList();
+        this.schoolHolidaysByYear = schoolHolidays.stream()
+                .collect(Collectors.groupingBy(SchoolHolidayView::getYear));
+        this.holidaysByYear = holidays.stream()
+                .collect(Collectors.groupingBy(HolidayView::getYear));
+        this.regionsByCode = dataset.getRegions().stream()
+                .collect(Collectors.toMap(Region::getCode, r -> r));
+    }
+
+    public CountryRepository countries() {
+        return proxy(CountryRepository.class, (name, args) -> switch (name) {
+            case "findByCode" -> Optional.ofNullable(isCountry(args[0]) ? dataset.getCountry() : null);
+            default -> unsupported(name);
+        });
+    }
+
+    public RegionRepository regions() {
+        return proxy(RegionRepository.class, (name, args) -> switch (name) {
+            case "findByCode" -> Optional.ofNullable(regionsByCode.get((String) args[0]));
+            case "existsByCodeAndCountry_Code" -> regionsByCode.containsKey((String) args[0]) && isCountry(args[1]);
+            case "findByCodeIn" -> ((Collection<?>) args[0]).stream()
+                    .map(regionsByCode::get).filter(Objects::nonNull).toList();
+            case "findAllWithCountry" -> dataset.getRegions();
+            case "findByCountryCode" -> isCountry(args[0]) ? dataset.getRegions() : List.of();
+            default -> unsupported(name);
+        });
+    }
+
+    public SchoolHolidayRepository schoolHolidays() {
+        return proxy(SchoolHolidayRepository.class, (name, args) -> switch (name) {
+            case "findViewsByCountryCodeAndYear" -> isCountry(args[0])
+                    ? schoolHolidaysByYear.getOrDefault((Integer) args[1], List.of()) : List.of();
+            case "findViewsByRegionCodesAndYear" -> filter(schoolHolidaysByYear.getOrDefault((Integer) args[1], List.of()),
+                    inRegion((Collection<?>) args[0]));
+            case "findViewsByCountryCodeAndDateRange" -> isCountry(args[0])
+                    ? filter(schoolHolidays, overlaps((LocalDate) args[1], (LocalDate) args[2])) : List.of();
+            case "findViewsByRegionCodesAndDateRange" -> filter(schoolHolidays,
+                    overlaps((LocalDate) args[1], (LocalDate) args[2])
+                            .and(inRegion((Collection<?>) args[0])));
+            default -> unsupported(name);
+        });
+    }
+
+    public HolidayRepository holidays() {
+        return proxy(HolidayRepository.class, (name, args) -> switch (name) {
+            case "findViewsByCountryCodeAndYear" -> isCountry(args[0])
+                    ? holidaysByYear.getOrDefault((Integer) args[1], List.of()) : List.of();
+            case "findViewsByCountryCodeYearAndRegions" -> isCountry(args[0])
+                    ? filter(holidaysByYear.getOrDefault((Integer) args[1], List.of()), inRegions((Collection<?>) args[2]))
+                    : List.of();
+            case "findViewsByCountryCodeAndDateRange" -> isCountry(args[0])
+                    ? filter(holidays, between((LocalDate) args[1], (LocalDate) args[2])) : List.of();
+            case "findViewsByCountryCodeAndDateRangeAndRegions" -> isCountry(args[0])
+                    ? filter(holidays, between((LocalDate) args[1], (LocalDate) args[2])
+                            .and(inRegions((Collection<?>) args[3])))
+                    : List.of();
+            default -> unsupported(name);
+        });
+    }
+
+    private boolean isCountry(Object code) {
+        return dataset.getCountry().getCode().equals(code);
+    }
+
+    private static Predicate<SchoolHolidayView> overlaps(LocalDate start, LocalDate end) {
+        return sh -> !sh.getStartDate().isAfter(end) && !sh.getEndDate().isBefore(start);
+    }
+
+    private static Predicate<HolidayView> between(LocalDate start, LocalDate end) {
+        return h -> !h.getDate().isBefore(start) && !h.getDate().isAfter(end);
+    }
+
+    private static Predicate<SchoolHolidayView> inRegion(Collection<?> regionCodes) {
+        Set<?> codes = new HashSet<>(regionCodes);
+        return sh -> codes.contains(sh.getRegion().getCode());
+    }
+
+    private static Predicate<HolidayView> inRegions(Collection<?> regionCodes) {
+        Set<?> codes = new HashSet<>(regionCodes);
+        return h -> h.getRegion() == null || codes.contains(h.getRegion().getCode());
+    }
+
+    private static <T> List<T> filter(List<T> rows, Predicate<T> predicate) {
+        List<T> result = new ArrayList<>();
+        for (T row : rows) {
+            if (predicate.test(row)) result.add(row);
+        }
+        return result;
+    }
+
+    private static Object unsupported(String method) {
+        throw new UnsupportedOperationException(method + " is not supported by the benchmark fakes");
+    }
+
+    private interface Finder {
+        Object find(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Finder finder) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "toString" -> "InMemory" + type.getSimpleName();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> finder.find(method.getName(), args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
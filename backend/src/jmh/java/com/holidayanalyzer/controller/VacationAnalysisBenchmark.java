@@ -0,0 +1,55 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.benchmark.BenchmarkDataset;
+import com.holidayanalyzer.benchmark.InMemoryRepositories;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the vacation analysis filtering against in-memory repositories, over a
+ * three-month and a two-year window, for the whole country and for a single subdivision.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VacationAnalysisBenchmark {
+
+    private static final int YEAR = BenchmarkDataset.FIRST_YEAR + 2;
+
+    @Param({"16", "128", "512"})
+    public int regions;
+
+    @Param({"6", "24"})
+    public int schoolHolidaysPerYear;
+
+    private VacationAnalysisController controller;
+    private String subdivision;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDataset dataset = BenchmarkDataset.generate(regions, schoolHolidaysPerYear);
+        InMemoryRepositories repositories = new InMemoryRepositories(dataset);
+        controller = new VacationAnalysisController(repositories.holidays(), repositories.schoolHolidays(),
+                repositories.regions());
+        subdivision = dataset.getRegions().get(0).getCode();
+    }
+
+    @Benchmark
+    public VacationAnalysisController.VacationAnalysisResponse country3Months() {
+        return controller.getVacationAnalysis(BenchmarkDataset.COUNTRY_CODE, YEAR + "-06-01", YEAR + "-08-31", null);
+    }
+
+    @Benchmark
+    public VacationAnalysisController.VacationAnalysisResponse country2Years() {
+        return controller.getVacationAnalysis(BenchmarkDataset.COUNTRY_CODE, YEAR + "-01-01", (YEAR + 1) + "-12-31", null);
+    }
+
+    @Benchmark
+    public VacationAnalysisController.VacationAnalysisResponse subdivision2Years() {
+        return controller.getVacationAnalysis(BenchmarkDataset.COUNTRY_CODE, YEAR + "-01-01", (YEAR + 1) + "-12-31", subdivision);
+    }
+}
@@ -0,0 +1,83 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.benchmark.BenchmarkDataset;
+import com.holidayanalyzer.benchmark.InMemoryRepositories;
+import com.holidayanalyzer.dto.VacationLoadRangeResponse;
+import com.holidayanalyzer.dto.VacationLoadResponse;
+import com.holidayanalyzer.dto.VacationLoadResponse.PeakPeriod;
+import com.holidayanalyzer.dto.VacationLoadResponse.WeeklyLoad;
+import com.holidayanalyzer.model.Region;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the vacation-load paths against in-memory repositories: the yearly view for
+ * the whole country and for a quarter of its regions, a three-year range, and the weekly
+ * aggregation and peak detection steps of the yearly view on their own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VacationLoadBenchmark {
+
+    private static final int YEAR = BenchmarkDataset.FIRST_YEAR + 2;
+
+    @Param({"16", "128", "512"})
+    public int regions;
+
+    @Param({"6", "24"})
+    public int schoolHolidaysPerYear;
+
+    private VacationLoadService service;
+    private List<String> regionSubset;
+    private VacationLoadEngine engine;
+    private List<WeeklyLoad> weeklyLoads;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDataset dataset = BenchmarkDataset.generate(regions, schoolHolidaysPerYear);
+        InMemoryRepositories repositories = new InMemoryRepositories(dataset);
+        service = new VacationLoadService(repositories.schoolHolidays(), repositories.holidays(),
+                repositories.countries(), repositories.regions(), new HolidayLabelDictionary(), new SimpleMeterRegistry());
+        regionSubset = dataset.getRegions().stream()
+                .limit(Math.max(1, regions / 4))
+                .map(Region::getCode)
+                .toList();
+        engine = service.loadEngine(BenchmarkDataset.COUNTRY_CODE,
+                LocalDate.of(YEAR, 1, 1), LocalDate.of(YEAR, 12, 31));
+        weeklyLoads = engine.toWeeklyLoads();
+    }
+
+    @Benchmark
+    public VacationLoadResponse calculateVacationLoad() {
+        return service.calculateVacationLoad(BenchmarkDataset.COUNTRY_CODE, YEAR);
+    }
+
+    @Benchmark
+    public VacationLoadResponse calculateVacationLoadRegional() {
+        return service.calculateVacationLoad(BenchmarkDataset.COUNTRY_CODE, regionSubset, YEAR);
+    }
+
+    @Benchmark
+    public VacationLoadRangeResponse calculateVacationLoadRange() {
+        return service.calculateVacationLoad(BenchmarkDataset.COUNTRY_CODE,
+                LocalDate.of(YEAR, 1, 1), LocalDate.of(YEAR + 2, 12, 31));
+    }
+
+    @Benchmark
+    public List<WeeklyLoad> aggregateByWeek() {
+        return engine.toWeeklyLoads();
+    }
+
+    @Benchmark
+    public PeakPeriod findPeakPeriod() {
+        return service.findPeakPeriod(weeklyLoads);
+    }
+}
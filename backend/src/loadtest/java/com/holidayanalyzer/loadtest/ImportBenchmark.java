@@ -0,0 +1,110 @@
+package com.holidayanalyzer.loadtest;
+
+import com.holidayanalyzer.HolidayAnalyzerApplication;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures rows/sec of a bulk public holiday import through the application's own JPA
+ * configuration against a real Postgres: the rows are saved with {@code saveAll} in chunks of
+ * one transaction each, then deleted again with {@code deleteAll}, like an import replacing a
+ * country's year.
+ *
+ * Arguments are {@code key=value} pairs: {@code rows} (default 100000), {@code chunk} (rows per
+ * transaction, default 5000), {@code country} (default: the first stored country) and
+ * {@code batchSize} (Hibernate JDBC batch size, default 50). {@code batchSize=1} turns batching
+ * off and sends one statement per row, as before ids were allocated from pooled sequences.
+ * The rows are written for {@value #YEAR}, so real data is not touched. The database must
+ * have been migrated and seeded already (start the backend once).
+ */
+public final class ImportBenchmark {
+
+    private static final int YEAR = 2999;
+
+    public static void main(String[] args) {
+        Map<String, String> config = LoadTestArgs.parse(args);
+        int rows = Integer.parseInt(config.getOrDefault("rows", "100000"));
+        int chunk = Integer.parseInt(config.getOrDefault("chunk", "5000"));
+        int batchSize = Integer.parseInt(config.getOrDefault("batchSize", "50"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HolidayAnalyzerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=" + (batchSize > 1),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            HolidayRepository holidayRepository = context.getBean(HolidayRepository.class);
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            Country country = config.containsKey("country")
+                    ? context.getBean(CountryRepository.class).findByCode(config.get("country"))
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown country: " + config.get("country")))
+                    : context.getBean(CountryRepository.class).findAll().stream().findFirst()
+                        .orElseThrow(() -> new IllegalStateException("No countries stored; start the backend once first"));
+            List<Region> regions = context.getBean(RegionRepository.class).findByCountryCode(country.getCode());
+
+            // Leftovers of an aborted run
+            transaction.executeWithoutResult(status ->
+                    holidayRepository.deleteAllInBatch(holidayRepository.findByCountryCodeAndYear(country.getCode(), YEAR)));
+
+            System.out.printf("Importing %d holidays for %s in chunks of %d, JDBC batch size %d%n",
+                    rows, country.getCode(), chunk, batchSize);
+
+            long started = System.nanoTime();
+            for (int from = 0; from < rows; from += chunk) {
+                List<Holiday> holidays = holidays(country, regions, from, Math.min(rows, from + chunk));
+                transaction.executeWithoutResult(status -> holidayRepository.saveAll(holidays));
+            }
+            report("insert", rows, started);
+
+            started = System.nanoTime();
+            int deleted = transaction.execute(status -> {
+                List<Holiday> existing = holidayRepository.findByCountryCodeAndYear(country.getCode(), YEAR);
+                holidayRepository.deleteAll(existing);
+                return existing.size();
+            });
+            report("load + delete", deleted, started);
+        }
+    }
+
+    private static List<Holiday> holidays(Country country, List<Region> regions, int from, int to) {
+        List<Holiday> holidays = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            // Every fourth row national, the others spread over the country's regions
+            Region region = regions.isEmpty() || i % 4 == 0 ? null : regions.get(i % regions.size());
+            Holiday h = new Holiday();
+            h.setCountry(country);
+            h.setCountryCode(country.getCode());
+            h.setRegion(region);
+            h.setDate(LocalDate.ofYearDay(YEAR, 1 + i % 365));
+            h.setLocalName("Benchmark " + i);
+            h.setEnglishName("Benchmark " + i);
+            h.setGlobalHoliday(region == null);
+            h.setTypes("Public");
+            h.setYear(YEAR);
+            holidays.add(h);
+        }
+        return holidays;
+    }
+
+    private static void report(String phase, int rows, long startedNanos) {
+        double seconds = (System.nanoTime() - startedNanos) / 1e9;
+        System.out.printf("%-14s %9d rows in %7.2f s = %10.0f rows/s%n", phase, rows, seconds, rows / seconds);
+    }
+}
@@ -0,0 +1,25 @@
+package com.holidayanalyzer.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses {@code key=value} command line arguments.
+ */
+final class LoadTestArgs {
+
+    private LoadTestArgs() {
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> config = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 1) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            config.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return config;
+    }
+}
@@ -0,0 +1,297 @@
+package com.holidayanalyzer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives concurrent HTTP traffic against a running backend and reports latency percentiles
+ * and throughput per endpoint.
+ *
+ * Each virtual user runs in a closed loop: it picks a scenario by weight, issues that
+ * scenario's requests one after another and starts over. The scenarios replay what the
+ * frontend requests:
+ * <ul>
+ *   <li>{@code planner}: a vacation planner visit. Countries, regions and all school
+ *       holidays are loaded, then {@code analyzeDateRange} runs for a random country over the
+ *       current and the next two years (vacation-load range plus vacation-analysis), and
+ *       again for one of its regions in half of the visits.</li>
+ *   <li>{@code admin}: the admin panel loading countries, regions (twice, as the panel
+ *       does), all public holidays and all school holidays.</li>
+ *   <li>{@code analysis}: best weekends and upcoming holidays, unfiltered and for a random
+ *       country.</li>
+ * </ul>
+ *
+ * Arguments are {@code key=value} pairs: {@code baseUrl} (default http://localhost:8080),
+ * {@code users} (concurrent virtual users, default 32), {@code warmup} and {@code duration}
+ * in seconds (default 10 and 60), {@code thinkMillis} between requests (default 0) and
+ * {@code mix} (scenario weights, default {@code planner=90,admin=10}). Only requests
+ * completing after the warmup are reported.
+ */
+public final class LoadTestDriver {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong scenarios = new AtomicLong();
+
+    private final String baseUrl;
+    private final long thinkMillis;
+    private final Map<String, Integer> mix;
+
+    private List<String> countries;
+    private Map<String, List<String>> regionsByCountry;
+    private volatile long measureFrom;
+    private volatile long measureUntil;
+
+    private LoadTestDriver(Map<String, String> config) {
+        this.baseUrl = config.getOrDefault("baseUrl", "http://localhost:8080");
+        this.thinkMillis = Long.parseLong(config.getOrDefault("thinkMillis", "0"));
+        this.mix = parseMix(config.getOrDefault("mix", "planner=90,admin=10"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> config = LoadTestArgs.parse(args);
+        int users = Integer.parseInt(config.getOrDefault("users", "32"));
+        long warmup = Long.parseLong(config.getOrDefault("warmup", "10"));
+        long duration = Long.parseLong(config.getOrDefault("duration", "60"));
+        new LoadTestDriver(config).run(users, warmup, duration);
+    }
+
+    private void run(int users, long warmupSeconds, long durationSeconds) throws Exception {
+        discover();
+        System.out.printf("Driving %s with %d users, mix %s: %d s warmup, %d s measured%n",
+                baseUrl, users, mix, warmupSeconds, durationSeconds);
+
+        long start = System.nanoTime();
+        measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        measureUntil = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                executor.submit(this::virtualUser);
+            }
+        }
+        report(durationSeconds);
+    }
+
+    /**
+     * Loads the country and region codes the scenarios pick from.
+     */
+    private void discover() throws IOException, InterruptedException {
+        countries = new ArrayList<>();
+        for (JsonNode country : getJson("/api/countries")) {
+            countries.add(country.get("code").asText());
+        }
+        regionsByCountry = new HashMap<>();
+        for (JsonNode region : getJson("/api/regions")) {
+            String code = region.get("code").asText();
+            // Same fallback as the frontend when the country is not serialized
+            String countryCode = region.path("country").path("code").asText(code.split("-")[0]);
+            regionsByCountry.computeIfAbsent(countryCode, k -> new ArrayList<>()).add(code);
+        }
+        if (countries.isEmpty()) {
+            throw new IllegalStateException("No countries found at " + baseUrl);
+        }
+    }
+
+    private void virtualUser() {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        while (System.nanoTime() < measureUntil) {
+            int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+            for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    runScenario(entry.getKey());
+                    break;
+                }
+            }
+        }
+    }
+
+    private void runScenario(String scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String country = countries.get(random.nextInt(countries.size()));
+        switch (scenario) {
+            case "planner" -> {
+                request("/api/countries", "/api/countries");
+                request("/api/regions", "/api/regions");
+                request("/api/school-holidays", "/api/school-holidays");
+                int year = LocalDate.now().getYear();
+                analyzeDateRange(year + "-01-01", (year + 2) + "-12-31", country, null);
+                List<String> regions = regionsByCountry.getOrDefault(country, List.of());
+                if (!regions.isEmpty() && random.nextBoolean()) {
+                    analyzeDateRange(year + "-01-01", (year + 2) + "-12-31", country,
+                            regions.get(random.nextInt(regions.size())));
+                }
+            }
+            case "admin" -> {
+                request("/api/countries", "/api/countries");
+                request("/api/regions", "/api/regions");
+                request("/api/regions", "/api/regions");
+                request("/api/holidays", "/api/holidays");
+                request("/api/school-holidays", "/api/school-holidays");
+            }
+            case "analysis" -> {
+                request("/api/analysis/best-weekends", "/api/analysis/best-weekends?count=10");
+                request("/api/analysis/best-weekends", "/api/analysis/best-weekends?count=10&countries=" + country);
+                request("/api/analysis/upcoming", "/api/analysis/upcoming?days=28");
+                request("/api/analysis/upcoming", "/api/analysis/upcoming?days=28&countries=" + country);
+            }
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+        if (System.nanoTime() >= measureFrom && System.nanoTime() < measureUntil) {
+            scenarios.incrementAndGet();
+        }
+    }
+
+    /**
+     * Same two requests as the frontend's {@code analyzeDateRange}; the vacation load is
+     * always requested for the whole country.
+     */
+    private void analyzeDateRange(String startDate, String endDate, String country, String subdivision) {
+        request("/api/vacation-load", "/api/vacation-load?countryCode=" + country
+                + "&startDate=" + startDate + "&endDate=" + endDate);
+        String analysis = "/api/vacation-analysis?country=" + country + "&startDate=" + startDate + "&endDate=" + endDate;
+        if (subdivision != null) {
+            analysis += "&subdivision=" + URLEncoder.encode(subdivision, StandardCharsets.UTF_8);
+        }
+        request(subdivision != null ? "/api/vacation-analysis (subdivision)" : "/api/vacation-analysis", analysis);
+    }
+
+    private void request(String endpoint, String pathAndQuery) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long started = System.nanoTime();
+        boolean error;
+        long bytes = 0;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            error = response.statusCode() >= 400;
+            bytes = response.body().length;
+        } catch (IOException e) {
+            error = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long finished = System.nanoTime();
+        if (started >= measureFrom && finished <= measureUntil) {
+            stats.computeIfAbsent(endpoint, k -> new EndpointStats()).record(finished - started, error, bytes);
+        }
+        if (thinkMillis > 0) {
+            try {
+                Thread.sleep(thinkMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Accept", "application/json").GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void report(long durationSeconds) {
+        System.out.println();
+        System.out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "avg KB");
+        EndpointStats total = new EndpointStats();
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(stats).entrySet()) {
+            printRow(entry.getKey(), entry.getValue(), durationSeconds);
+            total.addAll(entry.getValue());
+        }
+        printRow("TOTAL", total, durationSeconds);
+        System.out.printf("%nScenarios completed: %d (%.1f/s)%n", scenarios.get(), (double) scenarios.get() / durationSeconds);
+    }
+
+    private static void printRow(String endpoint, EndpointStats stats, long durationSeconds) {
+        long[] latencies = stats.sortedLatencies();
+        System.out.printf("%-40s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %10.1f%n",
+                endpoint, latencies.length, stats.errors, (double) latencies.length / durationSeconds,
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                latencies.length > 0 ? latencies[latencies.length - 1] / 1e6 : 0.0,
+                latencies.length > 0 ? stats.bytes / 1024.0 / latencies.length : 0.0);
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds.
+     */
+    static double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return sortedNanos[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.split("=");
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) weights.put(kv[0].trim(), weight);
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix must contain at least one positive weight");
+        }
+        return weights;
+    }
+
+    private static final class EndpointStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long bytes;
+
+        synchronized void record(long nanos, boolean error, long size) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (error) errors++;
+            bytes += size;
+        }
+
+        synchronized void addAll(EndpointStats other) {
+            for (long nanos : other.sortedLatencies()) {
+                record(nanos, false, 0);
+            }
+            errors += other.errors;
+            bytes += other.bytes;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.holidayanalyzer.loadtest;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.*;
+
+/**
+ * Writes a synthetic dataset of countries, regions, public holidays and school holidays
+ * straight into the application's Postgres database with batched JDBC inserts.
+ *
+ * Arguments are {@code key=value} pairs:
+ * <ul>
+ *   <li>{@code countries} (default 200, at most 676), {@code regions} (default 5000),
+ *       {@code years} (default 30), {@code startYear} (default: current year minus half of
+ *       {@code years}), {@code seed} (default 42)</li>
+ *   <li>{@code url}, {@code username}, {@code password}: default to {@code DB_URL},
+ *       {@code DB_USERNAME} and {@code DB_PASSWORD} like the application</li>
+ *   <li>{@code truncate=true}: empties the holiday, region and country tables first; without
+ *       it the generator refuses to write into a database that already has countries</li>
+ * </ul>
+ *
+ * Regions are spread over countries with a skewed distribution, so a few large countries
+ * have many regions, as in the real data. Every region gets six school holidays per year
+ * with staggered dates; every country gets ten national public holidays per year, and a
+ * third of the regions two regional ones. The schema must exist already (start the backend
+ * once so Flyway has run); restart it or clear its caches after generating.
+ */
+public final class SyntheticDataGenerator {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final String[] NATIONAL_HOLIDAYS = {
+            "New Year", "Labour Day", "Christmas Day", "Boxing Day", "Independence Day",
+            "Spring Festival", "Remembrance Day", "Harvest Day", "Constitution Day", "Unity Day"
+    };
+
+    private final Map<String, String> config;
+    private final Random random;
+
+    private SyntheticDataGenerator(Map<String, String> config) {
+        this.config = config;
+        this.random = new Random(Long.parseLong(config.getOrDefault("seed", "42")));
+    }
+
+    public static void main(String[] args) throws SQLException {
+        new SyntheticDataGenerator(LoadTestArgs.parse(args)).run();
+    }
+
+    private void run() throws SQLException {
+        int countryCount = Integer.parseInt(config.getOrDefault("countries", "200"));
+        int regionCount = Integer.parseInt(config.getOrDefault("regions", "5000"));
+        int years = Integer.parseInt(config.getOrDefault("years", "30"));
+        int startYear = Integer.parseInt(config.getOrDefault("startYear",
+                String.valueOf(LocalDate.now().getYear() - years / 2)));
+        if (countryCount < 1 || countryCount > 26 * 26) {
+            throw new IllegalArgumentException("countries must be between 1 and " + 26 * 26);
+        }
+        if (regionCount < countryCount) {
+            throw new IllegalArgumentException("regions must be at least countries");
+        }
+
+        String url = config.getOrDefault("url", env("DB_URL", "jdbc:postgresql://localhost:5432/holidays"));
+        try (Connection connection = DriverManager.getConnection(url,
+                config.getOrDefault("username", env("DB_USERNAME", "postgres")),
+                config.getOrDefault("password", env("DB_PASSWORD", "password")))) {
+            connection.setAutoCommit(false);
+            prepare(connection, Boolean.parseBoolean(config.getOrDefault("truncate", "false")));
+
+            long started = System.nanoTime();
+            List<CountryRow> countries = insertCountries(connection, countryCount, regionCount);
+            List<RegionRow> regions = insertRegions(connection, countries);
+            long publicHolidays = insertPublicHolidays(connection, countries, regions, startYear, years);
+            long schoolHolidays = insertSchoolHolidays(connection, regions, startYear, years);
+
+            System.out.printf("Generated %d countries, %d regions, %d public holidays and %d school holidays "
+                            + "for %d-%d in %.1f s%n",
+                    countries.size(), regions.size(), publicHolidays, schoolHolidays,
+                    startYear, startYear + years - 1, (System.nanoTime() - started) / 1e9);
+        }
+    }
+
+    private static void prepare(Connection connection, boolean truncate) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (truncate) {
+                statement.execute("TRUNCATE school_holidays, holidays, regions, countries RESTART IDENTITY");
+                connection.commit();
+                return;
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT count(*) FROM countries")) {
+                rs.next();
+                if (rs.getLong(1) > 0) {
+                    throw new IllegalStateException("Database already contains countries; pass truncate=true to replace them");
+                }
+            }
+        }
+    }
+
+    private List<CountryRow> insertCountries(Connection connection, int countryCount, int regionCount) throws SQLException {
+        // Skewed region counts: weight 1/(i+1)^0.7, at least one region per country
+        double[] weights = new double[countryCount];
+        double total = 0;
+        for (int i = 0; i < countryCount; i++) {
+            weights[i] = 1 / Math.pow(i + 1, 0.7);
+            total += weights[i];
+        }
+        int[] regionsPerCountry = new int[countryCount];
+        int assigned = 0;
+        for (int i = 0; i < countryCount; i++) {
+            regionsPerCountry[i] = 1 + (int) ((regionCount - countryCount) * weights[i] / total);
+            assigned += regionsPerCountry[i];
+        }
+        regionsPerCountry[0] += regionCount - assigned;
+
+        List<CountryRow> countries = new ArrayList<>(countryCount);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO countries (code, name, population) VALUES (?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < countryCount; i++) {
+                String code = "" + (char) ('A' + i / 26) + (char) ('A' + i % 26);
+                long[] populations = new long[regionsPerCountry[i]];
+                long population = 0;
+                for (int r = 0; r < populations.length; r++) {
+                    // Log-uniform between 20k and 20M
+                    populations[r] = (long) (20_000 * Math.pow(1_000, random.nextDouble()));
+                    population += populations[r];
+                }
+                insert.setString(1, code);
+                insert.setString(2, "Synthetic Country " + code);
+                insert.setLong(3, population);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    countries.add(new CountryRow(keys.getLong("id"), code, population, populations, random.nextInt(21)));
+                }
+            }
+        }
+        connection.commit();
+        return countries;
+    }
+
+    private List<RegionRow> insertRegions(Connection connection, List<CountryRow> countries) throws SQLException {
+        List<RegionRow> regions = new ArrayList<>();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO regions (code, name, population, country_id) VALUES (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (CountryRow country : countries) {
+                for (int r = 0; r < country.regionPopulations().length; r++) {
+                    String code = country.code() + "-" + r;
+                    insert.setString(1, code);
+                    insert.setString(2, "Region " + country.code() + " " + r);
+                    insert.setLong(3, country.regionPopulations()[r]);
+                    insert.setLong(4, country.id());
+                    insert.addBatch();
+                    regions.add(new RegionRow(0, code, country, r));
+                }
+            }
+            insert.executeBatch();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                for (int i = 0; keys.next(); i++) {
+                    RegionRow region = regions.get(i);
+                    regions.set(i, new RegionRow(keys.getLong("id"), region.code(), region.country(), region.index()));
+                }
+            }
+        }
+        connection.commit();
+        return regions;
+    }
+
+    private long insertPublicHolidays(Connection connection, List<CountryRow> countries, List<RegionRow> regions,
+                                      int startYear, int years) throws SQLException {
+        // Stable dates per country and per region, repeated every year
+        Map<CountryRow, MonthDay[]> nationalDates = new HashMap<>();
+        for (CountryRow country : countries) {
+            MonthDay[] dates = new MonthDay[NATIONAL_HOLIDAYS.length];
+            dates[0] = MonthDay.of(1, 1);
+            dates[1] = MonthDay.of(5, 1);
+            dates[2] = MonthDay.of(12, 25);
+            dates[3] = MonthDay.of(12, 26);
+            for (int k = 4; k < dates.length; k++) {
+                dates[k] = randomMonthDay();
+            }
+            nationalDates.put(country, dates);
+        }
+        Map<RegionRow, MonthDay[]> regionalDates = new HashMap<>();
+        for (RegionRow region : regions) {
+            if (random.nextInt(3) == 0) {
+                regionalDates.put(region, new MonthDay[]{randomMonthDay(), randomMonthDay()});
+            }
+        }
+
+        long rows = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO holidays (country_id, date, local_name, english_name, country_code, global_holiday, types, region_id, year) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int year = startYear; year < startYear + years; year++) {
+                for (CountryRow country : countries) {
+                    MonthDay[] dates = nationalDates.get(country);
+                    for (int k = 0; k < dates.length; k++) {
+                        addHoliday(insert, country, null, dates[k].atYear(year), NATIONAL_HOLIDAYS[k]);
+                        if (++rows % BATCH_SIZE == 0) flush(connection, insert, "public holidays", rows);
+                    }
+                }
+                for (Map.Entry<RegionRow, MonthDay[]> entry : regionalDates.entrySet()) {
+                    RegionRow region = entry.getKey();
+                    for (int k = 0; k < entry.getValue().length; k++) {
+                        addHoliday(insert, region.country(), region, entry.getValue()[k].atYear(year),
+                                "Regional Day " + (k + 1) + " " + region.code());
+                        if (++rows % BATCH_SIZE == 0) flush(connection, insert, "public holidays", rows);
+                    }
+                }
+            }
+            flush(connection, insert, "public holidays", rows);
+        }
+        return rows;
+    }
+
+    private static void addHoliday(PreparedStatement insert, CountryRow country, RegionRow region,
+                                   LocalDate date, String name) throws SQLException {
+        insert.setLong(1, country.id());
+        insert.setObject(2, date);
+        insert.setString(3, name);
+        insert.setString(4, name);
+        insert.setString(5, country.code());
+        insert.setBoolean(6, region == null);
+        insert.setString(7, "Public");
+        if (region == null) {
+            insert.setNull(8, Types.BIGINT);
+        } else {
+            insert.setLong(8, region.id());
+        }
+        insert.setInt(9, date.getYear());
+        insert.addBatch();
+    }
+
+    /**
+     * Six school holidays per region and year. Start dates shift by country and are
+     * staggered by region within a country, like the rotating summer holidays in Germany;
+     * Christmas holidays reach into the following year.
+     */
+    private long insertSchoolHolidays(Connection connection, List<RegionRow> regions,
+                                      int startYear, int years) throws SQLException {
+        long rows = 0;
+        int pending = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO school_holidays (name, start_date, end_date, year, region_id) VALUES (?, ?, ?, ?, ?)")) {
+            for (int year = startYear; year < startYear + years; year++) {
+                for (RegionRow region : regions) {
+                    int shift = region.country().shiftDays();
+                    int stagger = (region.index() * 7 + year) % 35;
+                    LocalDate jan1 = LocalDate.of(year, 1, 1);
+
+                    addSchoolHoliday(insert, region, year, "Winterferien", jan1.plusDays(30 + shift + stagger / 5), 7);
+                    addSchoolHoliday(insert, region, year, "Osterferien", jan1.plusDays(80 + shift + stagger / 3), 14);
+                    addSchoolHoliday(insert, region, year, "Pfingstferien", jan1.plusDays(140 + shift), 5);
+                    addSchoolHoliday(insert, region, year, "Sommerferien", jan1.plusDays(175 + shift + stagger), 42);
+                    addSchoolHoliday(insert, region, year, "Herbstferien", jan1.plusDays(280 + shift + stagger / 3), 10);
+                    addSchoolHoliday(insert, region, year, "Weihnachtsferien", LocalDate.of(year, 12, 22), 14);
+                    rows += 6;
+                    pending += 6;
+                    if (pending >= BATCH_SIZE) {
+                        flush(connection, insert, "school holidays", rows);
+                        pending = 0;
+                    }
+                }
+            }
+            flush(connection, insert, "school holidays", rows);
+        }
+        return rows;
+    }
+
+    private static void addSchoolHoliday(PreparedStatement insert, RegionRow region, int year, String name,
+                                         LocalDate start, int days) throws SQLException {
+        insert.setString(1, name);
+        insert.setObject(2, start);
+        insert.setObject(3, start.plusDays(days - 1L));
+        insert.setInt(4, year);
+        insert.setLong(5, region.id());
+        insert.addBatch();
+    }
+
+    private static void flush(Connection connection, PreparedStatement insert, String table, long rows) throws SQLException {
+        insert.executeBatch();
+        connection.commit();
+        System.out.printf("  %,d %s%n", rows, table);
+    }
+
+    private MonthDay randomMonthDay() {
+        // Day 1-28 so the date exists in every year
+        return MonthDay.of(1 + random.nextInt(12), 1 + random.nextInt(28));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private record CountryRow(long id, String code, long population, long[] regionPopulations, int shiftDays) {
+    }
+
+    private record RegionRow(long id, String code, CountryRow country, int index) {
+    }
+}
@@ -2,8 +2,10 @@ package com.holidayanalyzer;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class HolidayAnalyzerApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,153 @@
+package com.holidayanalyzer.config;
+
+import com.holidayanalyzer.service.DataVersion;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Strong ETags and conditional GET for the public read endpoints.
+ *
+ * Their responses only change when the data does, so the ETag is derived from
+ * {@link DataVersion} instead of the body: the version, the current TTL bucket (which bounds
+ * staleness for writes handled by another replica, like the caches do), today's date (for
+ * endpoints relative to today) and the request's {@code Accept} and {@code Accept-Encoding}
+ * headers (which select the representation). A matching {@code If-None-Match} is answered with 304 before the request
+ * reaches a controller, so no query or serialization runs. Only successful responses carry the
+ * ETag, so a client never revalidates a cached error into a 304.
+ */
+@Component
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private static final List<String> PATHS = List.of(
+            "/api/countries", "/api/regions", "/api/holidays", "/api/school-holidays",
+            "/api/vacation-load", "/api/vacation-analysis", "/api/analysis");
+
+    private final DataVersion dataVersion;
+    private final long bucketMillis;
+
+    public ConditionalGetFilter(DataVersion dataVersion,
+                                @Value("${vacation-load.cache.ttl:PT10M}") Duration ttl) {
+        this.dataVersion = dataVersion;
+        this.bucketMillis = Math.max(ttl.toMillis(), 1);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) return true;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : PATHS) {
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) return false;
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String etag = etag(request);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            setCacheHeaders(response, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        EtagResponse wrapped = new EtagResponse(response, etag);
+        chain.doFilter(request, wrapped);
+        wrapped.addCacheHeaders();
+    }
+
+    private static void setCacheHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    }
+
+    private String etag(HttpServletRequest request) {
+        String variant = request.getHeader(HttpHeaders.ACCEPT) + "|" + request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return "\"" + Long.toString(dataVersion.current(), 36)
+                + "-" + Long.toString(System.currentTimeMillis() / bucketMillis, 36)
+                + "-" + Long.toString(LocalDate.now().toEpochDay(), 36)
+                + "-" + Integer.toHexString(variant.hashCode()) + "\"";
+    }
+
+    /**
+     * Weak comparison as required for {@code If-None-Match}: a {@code W/} prefix is ignored.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the cache headers once the status is known: when the body is first opened (streamed
+     * responses are committed while writing) or after the chain for responses without a body.
+     * Error statuses get none.
+     */
+    private static final class EtagResponse extends HttpServletResponseWrapper {
+
+        private final String etag;
+        private boolean decided;
+
+        EtagResponse(HttpServletResponse response, String etag) {
+            super(response);
+            this.etag = etag;
+        }
+
+        void addCacheHeaders() {
+            if (decided) return;
+            decided = true;
+            if (getStatus() >= 200 && getStatus() < 300 && !isCommitted()) {
+                setCacheHeaders((HttpServletResponse) getResponse(), etag);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCacheHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCacheHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCacheHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            decided = true;
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            decided = true;
+            super.sendError(sc);
+        }
+    }
+}
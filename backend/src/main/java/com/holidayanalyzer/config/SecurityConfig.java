@@ -45,6 +45,8 @@ public class SecurityConfig {
                     "/swagger-ui/**",
                     "/swagger-ui.html"
                 ).permitAll()
+                // Health and Prometheus scrape endpoint (not routed by the ingress)
+                .requestMatchers(HttpMethod.GET, "/actuator/health/**", "/actuator/prometheus").permitAll()
                 // Auth endpoints - public for login
                 .requestMatchers("/api/auth/**").permitAll()
                 // Allow all GET requests under /api/** (for frontend public data)
@@ -0,0 +1,118 @@
+package com.holidayanalyzer.config;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk-inserts the seed countries, regions and school holidays bundled under
+ * {@code classpath:seed/}.
+ *
+ * Each file is plain comma-separated text with a header row and no quoting. Each table is
+ * written with one JDBC batch, which the Postgres driver sends as multi-row inserts
+ * ({@code reWriteBatchedInserts}). Foreign keys are resolved by code with one select per
+ * parent table. Ids come from the same sequences Hibernate allocates from. Runs in the
+ * caller's transaction.
+ */
+@Component
+public class SeedDataLoader {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeedDataLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public SeedCounts load() {
+        List<String[]> countries = read("countries.csv");
+        List<String[]> regions = read("regions.csv");
+        List<String[]> schoolHolidays = read("school-holidays.csv");
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO countries (id, code, name, population) VALUES (nextval('countries_id_seq'), ?, ?, ?)",
+                countries, BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, row[0]);
+                    ps.setString(2, row[1]);
+                    ps.setLong(3, Long.parseLong(row[2]));
+                });
+        Map<String, Long> countryIds = ids("SELECT code, id FROM countries");
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO regions (id, code, name, country_id, population) VALUES (nextval('regions_id_seq'), ?, ?, ?, ?)",
+                regions, BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, row[0]);
+                    ps.setString(2, row[1]);
+                    ps.setLong(3, require(countryIds, row[2], "country"));
+                    ps.setLong(4, Long.parseLong(row[3]));
+                });
+        Map<String, Long> regionIds = ids("SELECT code, id FROM regions");
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO school_holidays (id, region_id, name, start_date, end_date, year) "
+                        + "VALUES (nextval('school_holidays_id_seq'), ?, ?, ?, ?, ?)",
+                schoolHolidays, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, require(regionIds, row[0], "region"));
+                    ps.setString(2, row[1]);
+                    ps.setDate(3, Date.valueOf(LocalDate.parse(row[2])));
+                    ps.setDate(4, Date.valueOf(LocalDate.parse(row[3])));
+                    ps.setInt(5, Integer.parseInt(row[4]));
+                });
+
+        return new SeedCounts(countries.size(), regions.size(), schoolHolidays.size());
+    }
+
+    private Map<String, Long> ids(String sql) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            ids.put(rs.getString(1), rs.getLong(2));
+        });
+        return ids;
+    }
+
+    private static long require(Map<String, Long> ids, String code, String kind) {
+        Long id = ids.get(code);
+        if (id == null) {
+            throw new IllegalStateException("Seed data references unknown " + kind + ": " + code);
+        }
+        return id;
+    }
+
+    private static List<String[]> read(String file) {
+        ClassPathResource resource = new ClassPathResource("seed/" + file);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            int columns = header.split(",").length;
+            List<String[]> rows = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                String[] row = line.split(",", -1);
+                if (row.length != columns) {
+                    throw new IllegalStateException("Expected " + columns + " columns in seed/" + file + ": " + line);
+                }
+                rows.add(row);
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read seed/" + file, e);
+        }
+    }
+
+    public record SeedCounts(int countries, int regions, int schoolHolidays) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.service.VacationLoadCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+public class AdminCacheController {
+
+    private final VacationLoadCache vacationLoadCache;
+
+    public AdminCacheController(VacationLoadCache vacationLoadCache) {
+        this.vacationLoadCache = vacationLoadCache;
+    }
+
+    @GetMapping("/vacation-load")
+    public ResponseEntity<Map<String, Object>> getVacationLoadCacheStatistics() {
+        return ResponseEntity.ok(vacationLoadCache.getStatistics());
+    }
+
+    @DeleteMapping("/vacation-load")
+    public ResponseEntity<String> clearVacationLoadCache() {
+        vacationLoadCache.invalidateAll();
+        return ResponseEntity.ok("Vacation load cache cleared");
+    }
+}
@@ -4,6 +4,8 @@ import com.holidayanalyzer.model.Country;
 import com.holidayanalyzer.model.Region;
 import com.holidayanalyzer.repository.CountryRepository;
 import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.service.HolidayDataChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,11 +17,14 @@ public class AdminCountryController {
 
     private final CountryRepository countryRepository;
     private final RegionRepository regionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminCountryController(CountryRepository countryRepository,
-                                  RegionRepository regionRepository) {
+                                  RegionRepository regionRepository,
+                                  ApplicationEventPublisher eventPublisher) {
         this.countryRepository = countryRepository;
         this.regionRepository = regionRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     // ==================== COUNTRIES ====================
@@ -44,6 +49,7 @@ public class AdminCountryController {
         }
 
         Country saved = countryRepository.save(country);
+        eventPublisher.publishEvent(HolidayDataChangedEvent.country(saved.getCode()));
         return ResponseEntity.ok(saved);
     }
 
@@ -63,6 +69,7 @@ public class AdminCountryController {
         }
 
         Country saved = countryRepository.save(country);
+        eventPublisher.publishEvent(HolidayDataChangedEvent.country(saved.getCode()));
         return ResponseEntity.ok(saved);
     }
 
@@ -79,6 +86,7 @@ public class AdminCountryController {
         }
 
         countryRepository.deleteById(id);
+        eventPublisher.publishEvent(HolidayDataChangedEvent.country(country.getCode()));
         return ResponseEntity.ok("Country and " + regions.size() + " regions deleted");
     }
 
@@ -108,6 +116,7 @@ public class AdminCountryController {
         }
 
         Region saved = regionRepository.save(region);
+        eventPublisher.publishEvent(HolidayDataChangedEvent.country(country.getCode()));
         return ResponseEntity.ok(saved);
     }
 
@@ -126,12 +135,19 @@ public class AdminCountryController {
         }
 
         Region saved = regionRepository.save(region);
+        eventPublisher.publishEvent(HolidayDataChangedEvent.country(saved.getCountry().getCode()));
         return ResponseEntity.ok(saved);
     }
 
     @DeleteMapping("/regions/{id}")
     public ResponseEntity<String> deleteRegion(@PathVariable Long id) {
+        String countryCode = regionRepository.findById(id)
+                .map(region -> region.getCountry().getCode())
+                .orElse(null);
         regionRepository.deleteById(id);
+        if (countryCode != null) {
+            eventPublisher.publishEvent(HolidayDataChangedEvent.country(countryCode));
+        }
         return ResponseEntity.ok("Region deleted");
     }
 }
\ No newline at end of file
@@ -1,59 +1,69 @@
 package com.holidayanalyzer.controller;
 
+import com.holidayanalyzer.dto.HolidayImportResult;
+import com.holidayanalyzer.dto.ImportJobResponse;
 import com.holidayanalyzer.model.Country;
 import com.holidayanalyzer.model.Holiday;
 import com.holidayanalyzer.model.Region;
 import com.holidayanalyzer.repository.CountryRepository;
 import com.holidayanalyzer.repository.HolidayRepository;
 import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.service.DataVersion;
 import com.holidayanalyzer.service.HolidayImportService;
+import com.holidayanalyzer.service.HolidayDataChangedEvent;
+import com.holidayanalyzer.service.ImportJobService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
 public class AdminHolidayController {
 
     private final HolidayImportService holidayImportService;
+    private final ImportJobService importJobService;
     private final HolidayRepository holidayRepository;
     private final RegionRepository regionRepository;
     private final CountryRepository countryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataVersion dataVersion;
 
     public AdminHolidayController(HolidayImportService holidayImportService,
+                                  ImportJobService importJobService,
                                   HolidayRepository holidayRepository,
                                   RegionRepository regionRepository,
-                                  CountryRepository countryRepository) {
+                                  CountryRepository countryRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  DataVersion dataVersion) {
         this.holidayImportService = holidayImportService;
+        this.importJobService = importJobService;
         this.holidayRepository = holidayRepository;
         this.regionRepository = regionRepository;
         this.countryRepository = countryRepository;
+        this.eventPublisher = eventPublisher;
+        this.dataVersion = dataVersion;
     }
 
     @PostMapping("/import")
-    public ResponseEntity<List<Holiday>> importPublicHolidays(
+    public ResponseEntity<HolidayImportResult> importPublicHolidays(
             @RequestParam("country") String countryCode,
             @RequestParam("year") int year) {
-        List<Holiday> imported = holidayImportService.importPublicHolidays(countryCode, year);
-        return ResponseEntity.ok(imported);
+        return ResponseEntity.ok(holidayImportService.importPublicHolidays(countryCode, year));
     }
 
+    /**
+     * Queues an import job for the given years and countries (all stored countries when
+     * {@code countries} is omitted); same as {@code POST /api/admin/import-jobs}.
+     */
     @PostMapping("/import-all")
-    public ResponseEntity<Map<String, Integer>> importAllCountries(@RequestParam("year") int year) {
-        List<String> countries = List.of("DE", "AT", "CH", "FR", "ES", "NL", "IT");
-
-        Map<String, Integer> summary = new LinkedHashMap<>();
-        for (String c : countries) {
-            int count = holidayImportService.importPublicHolidays(c, year).size();
-            summary.put(c, count);
-        }
-
-        return ResponseEntity.ok(summary);
+    public ResponseEntity<ImportJobResponse> importAllCountries(
+            @RequestParam("year") List<Integer> years,
+            @RequestParam(value = "countries", required = false) List<String> countries) {
+        return AdminImportJobController.accepted(importJobService.submit(countries, years));
     }
 
     @PostMapping("/holidays")
@@ -86,13 +96,27 @@ public class AdminHolidayController {
             holiday.setGlobalHoliday(true);
         }
 
+        long writeVersion = dataVersion.beginWrite();
         Holiday saved = holidayRepository.save(holiday);
+        eventPublisher.publishEvent(HolidayDataChangedEvent.publicHoliday(
+                country.getCode(), saved.getDate(), populationOf(saved), writeVersion));
         return ResponseEntity.ok(saved);
     }
 
     @DeleteMapping("/holidays/{id}")
     public ResponseEntity<String> deleteHoliday(@PathVariable Long id) {
-        holidayRepository.deleteById(id);
+        holidayRepository.findById(id).ifPresent(holiday -> {
+            long writeVersion = dataVersion.beginWrite();
+            holidayRepository.delete(holiday);
+            eventPublisher.publishEvent(HolidayDataChangedEvent.publicHoliday(
+                    holiday.getCountryCode(), holiday.getDate(), -populationOf(holiday), writeVersion));
+        });
         return ResponseEntity.ok("Holiday deleted");
     }
-}
\ No newline at end of file
+
+    private long populationOf(Holiday holiday) {
+        return HolidayDataChangedEvent.publicHolidayPopulation(
+                holiday.getRegion() != null ? holiday.getRegion().getPopulation() : null,
+                holiday.getCountry().getPopulation());
+    }
+}
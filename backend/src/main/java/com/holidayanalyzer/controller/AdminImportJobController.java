@@ -0,0 +1,51 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.dto.ImportJobResponse;
+import com.holidayanalyzer.service.ImportJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Background public holiday imports. Submitting returns 202 right away; the job's progress
+ * is polled through the URL in the {@code Location} header.
+ */
+@RestController
+@RequestMapping("/api/admin/import-jobs")
+public class AdminImportJobController {
+
+    private final ImportJobService importJobService;
+
+    public AdminImportJobController(ImportJobService importJobService) {
+        this.importJobService = importJobService;
+    }
+
+    /**
+     * Queues an import of the given years for the given countries, or for all stored
+     * countries when {@code countries} is omitted.
+     */
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> submitImportJob(
+            @RequestParam("year") List<Integer> years,
+            @RequestParam(value = "countries", required = false) List<String> countries) {
+        return accepted(importJobService.submit(countries, years));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable Long id) {
+        return ResponseEntity.of(importJobService.getJob(id));
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ImportJobResponse> cancelImportJob(@PathVariable Long id) {
+        return ResponseEntity.of(importJobService.cancel(id));
+    }
+
+    static ResponseEntity<ImportJobResponse> accepted(ImportJobResponse job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/import-jobs/" + job.getId()))
+                .body(job);
+    }
+}
@@ -4,12 +4,21 @@ import com.holidayanalyzer.model.Region;
 import com.holidayanalyzer.model.SchoolHoliday;
 import com.holidayanalyzer.repository.RegionRepository;
 import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import com.holidayanalyzer.service.DataVersion;
+import com.holidayanalyzer.service.HolidayDataChangedEvent;
+import com.holidayanalyzer.service.HolidayDataChangedEvent.LoadChange;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin/school-holidays")
@@ -17,11 +26,17 @@ public class AdminSchoolHolidayController {
 
     private final SchoolHolidayRepository schoolHolidayRepository;
     private final RegionRepository regionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataVersion dataVersion;
 
     public AdminSchoolHolidayController(SchoolHolidayRepository schoolHolidayRepository,
-                                        RegionRepository regionRepository) {
+                                        RegionRepository regionRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        DataVersion dataVersion) {
         this.schoolHolidayRepository = schoolHolidayRepository;
         this.regionRepository = regionRepository;
+        this.eventPublisher = eventPublisher;
+        this.dataVersion = dataVersion;
     }
 
     @PostMapping
@@ -42,14 +57,24 @@ public class AdminSchoolHolidayController {
         schoolHoliday.setEndDate(endDate);
         schoolHoliday.setYear(year);
 
-        return ResponseEntity.ok(schoolHolidayRepository.save(schoolHoliday));
+        long writeVersion = dataVersion.beginWrite();
+        SchoolHoliday saved = schoolHolidayRepository.save(schoolHoliday);
+        publishChanges(List.of(saved), 1, writeVersion);
+        return ResponseEntity.ok(saved);
     }
 
     @PostMapping("/batch")
     public ResponseEntity<List<SchoolHoliday>> addSchoolHolidayBatch(@RequestBody List<SchoolHolidayRequest> requests) {
-        List<SchoolHoliday> saved = requests.stream().map(req -> {
-            Region region = regionRepository.findByCode(req.regionCode)
-                    .orElseThrow(() -> new IllegalArgumentException("Unknown region code: " + req.regionCode));
+        Map<String, Region> regions = regionRepository.findByCodeIn(
+                        requests.stream().map(req -> req.regionCode).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Region::getCode, Function.identity()));
+
+        List<SchoolHoliday> toSave = requests.stream().map(req -> {
+            Region region = regions.get(req.regionCode);
+            if (region == null) {
+                throw new IllegalArgumentException("Unknown region code: " + req.regionCode);
+            }
 
             SchoolHoliday sh = new SchoolHoliday();
             sh.setName(req.name);
@@ -57,9 +82,15 @@ public class AdminSchoolHolidayController {
             sh.setStartDate(req.startDate);
             sh.setEndDate(req.endDate);
             sh.setYear(req.year);
-            return schoolHolidayRepository.save(sh);
+            return sh;
         }).toList();
 
+        // One transaction, inserts flushed as JDBC batches
+        long writeVersion = dataVersion.beginWrite();
+        List<SchoolHoliday> saved = schoolHolidayRepository.saveAll(toSave);
+
+        publishChanges(saved, 1, writeVersion);
+
         return ResponseEntity.ok(saved);
     }
 
@@ -67,11 +98,30 @@ public class AdminSchoolHolidayController {
     public ResponseEntity<String> deleteByRegionAndYear(
             @RequestParam String regionCode,
             @RequestParam int year) {
+        long writeVersion = dataVersion.beginWrite();
         List<SchoolHoliday> toDelete = schoolHolidayRepository.findByRegionCodeAndYear(regionCode, year);
         schoolHolidayRepository.deleteAll(toDelete);
+        publishChanges(toDelete, -1, writeVersion);
         return ResponseEntity.ok("Deleted " + toDelete.size() + " school holidays for " + regionCode + " " + year);
     }
 
+    /**
+     * Publishes one event per country and year, so a batch invalidates each cache once.
+     */
+    private void publishChanges(List<SchoolHoliday> schoolHolidays, int sign, long writeVersion) {
+        Map<CountryYear, List<LoadChange>> grouped = new LinkedHashMap<>();
+        for (SchoolHoliday sh : schoolHolidays) {
+            Long population = sh.getRegion().getPopulation();
+            grouped.computeIfAbsent(new CountryYear(sh.getRegion().getCountry().getCode(), sh.getYear()), k -> new ArrayList<>())
+                    .add(new LoadChange(true, sh.getStartDate(), sh.getEndDate(), population != null ? sign * population : 0));
+        }
+        grouped.forEach((key, changes) -> eventPublisher.publishEvent(new HolidayDataChangedEvent(
+                key.countryCode(), key.year(), List.copyOf(changes), writeVersion)));
+    }
+
+    private record CountryYear(String countryCode, int year) {
+    }
+
     public static class SchoolHolidayRequest {
         public String name;
         public String regionCode;
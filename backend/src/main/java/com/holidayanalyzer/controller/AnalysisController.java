@@ -0,0 +1,76 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.dto.CalendarQueryResponse;
+import com.holidayanalyzer.dto.RegionLeavePlans;
+import com.holidayanalyzer.dto.UpcomingHoliday;
+import com.holidayanalyzer.dto.WeekendAnalysis;
+import com.holidayanalyzer.service.LeavePlanService;
+import com.holidayanalyzer.service.RegionCalendarIndex;
+import com.holidayanalyzer.service.UpcomingHolidayIndex;
+import com.holidayanalyzer.service.WeekendRankingService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analysis")
+public class AnalysisController {
+
+    private final WeekendRankingService weekendRankingService;
+    private final UpcomingHolidayIndex upcomingHolidayIndex;
+    private final LeavePlanService leavePlanService;
+    private final RegionCalendarIndex regionCalendarIndex;
+
+    public AnalysisController(WeekendRankingService weekendRankingService,
+                              UpcomingHolidayIndex upcomingHolidayIndex,
+                              LeavePlanService leavePlanService,
+                              RegionCalendarIndex regionCalendarIndex) {
+        this.weekendRankingService = weekendRankingService;
+        this.upcomingHolidayIndex = upcomingHolidayIndex;
+        this.leavePlanService = leavePlanService;
+        this.regionCalendarIndex = regionCalendarIndex;
+    }
+
+    @GetMapping("/best-weekends")
+    public ResponseEntity<List<WeekendAnalysis>> getBestWeekends(
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false, defaultValue = "") List<String> countries,
+            @RequestParam(required = false, defaultValue = "") List<String> regions,
+            @RequestParam(defaultValue = "52") int weeks) {
+        return ResponseEntity.ok(weekendRankingService.findBestWeekends(count, countries, regions, weeks));
+    }
+
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<UpcomingHoliday>> getUpcomingHolidays(
+            @RequestParam(defaultValue = "28") int days,
+            @RequestParam(required = false, defaultValue = "") List<String> countries,
+            @RequestParam(required = false, defaultValue = "") List<String> regions) {
+        return ResponseEntity.ok(upcomingHolidayIndex.findUpcoming(days, countries, regions));
+    }
+
+    @GetMapping("/leave-plans")
+    public ResponseEntity<List<RegionLeavePlans>> getLeavePlans(
+            @RequestParam int year,
+            @RequestParam int budget,
+            @RequestParam(defaultValue = "3") int count,
+            @RequestParam(defaultValue = "0") double crowdPenalty,
+            @RequestParam(required = false, defaultValue = "") List<String> countries,
+            @RequestParam(required = false, defaultValue = "") List<String> regions) {
+        return ResponseEntity.ok(leavePlanService.plan(year, budget, count, crowdPenalty, countries, regions));
+    }
+
+    /**
+     * Days matching a set expression over region and country calendars, e.g.
+     * {@code DE-NW and NL} or {@code all(AT)}; see {@code CalendarExpression}.
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<CalendarQueryResponse> queryCalendar(
+            @RequestParam String expression,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(regionCalendarIndex.query(expression, startDate, endDate));
+    }
+}
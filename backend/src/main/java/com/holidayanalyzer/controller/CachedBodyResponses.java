@@ -0,0 +1,62 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.service.ResponseBodyCache.CachedBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Locale;
+
+/**
+ * Turns a {@link CachedBody} into a response: the gzip bytes with {@code Content-Encoding: gzip}
+ * when the client accepts it, the plain JSON bytes otherwise. The bytes are copied to the output
+ * stream as they are, without going through Jackson.
+ */
+final class CachedBodyResponses {
+
+    private CachedBodyResponses() {
+    }
+
+    static ResponseEntity<byte[]> of(CachedBody body, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? body.gzip() : body.json());
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows gzip: listed as {@code gzip} (or
+     * {@code x-gzip}) or covered by {@code *}, with a non-zero quality. An explicit entry
+     * takes precedence over {@code *}, so {@code gzip;q=0, *} refuses gzip.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = quality(parts) > 0;
+            if (name.equals("gzip") || name.equals("x-gzip")) return accepted;
+            if (name.equals("*")) wildcard = accepted;
+        }
+        return wildcard != null && wildcard;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim().toLowerCase(Locale.ROOT);
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -1,25 +1,30 @@
 package com.holidayanalyzer.controller;
 
-import com.holidayanalyzer.model.Country;
 import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.service.ResponseBodyCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/countries")
 public class CountryController {
 
     private final CountryRepository countryRepository;
+    private final ResponseBodyCache responseBodyCache;
 
-    public CountryController(CountryRepository countryRepository) {
+    public CountryController(CountryRepository countryRepository, ResponseBodyCache responseBodyCache) {
         this.countryRepository = countryRepository;
+        this.responseBodyCache = responseBodyCache;
     }
 
-    @GetMapping
-    public List<Country> getAllCountries() {
-        return countryRepository.findAll();
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllCountries(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return CachedBodyResponses.of(responseBodyCache.get("countries", countryRepository::findAll), acceptEncoding);
     }
 }
@@ -0,0 +1,42 @@
+package com.holidayanalyzer.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.holidayanalyzer.service.VacationLoadEngine;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Writes a daily load series as newline-delimited JSON, one
+ * {@code {"date":..,"schoolHolidayPopulation":..,"publicHolidayPopulation":..,"totalPopulation":..}}
+ * object per line, straight from the engine's arrays without building DailyLoad objects.
+ */
+final class DailyLoadNdjsonWriter {
+
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+
+    private DailyLoadNdjsonWriter() {
+    }
+
+    static StreamingResponseBody stream(JsonFactory jsonFactory, VacationLoadEngine engine) {
+        return outputStream -> {
+            try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(new SerializedString(""));
+                engine.forEachDay((epochDay, school, pub) -> {
+                    generator.writeStartObject();
+                    generator.writeStringField("date", LocalDate.ofEpochDay(epochDay).toString());
+                    generator.writeNumberField("schoolHolidayPopulation", school);
+                    generator.writeNumberField("publicHolidayPopulation", pub);
+                    generator.writeNumberField("totalPopulation", school + pub);
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                });
+            }
+        };
+    }
+}
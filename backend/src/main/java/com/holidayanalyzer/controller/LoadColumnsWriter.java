@@ -0,0 +1,82 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
+import com.holidayanalyzer.service.VacationLoadEngine;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Encodes a daily load series in a compact columnar layout, served as
+ * {@value #LOAD_COLUMNS_VALUE} when a client asks for it via {@code Accept}.
+ *
+ * <pre>
+ * magic        4 bytes  'H' 'L' 'C' 0x01 (format version 1)
+ * startDate    varint   zigzag epoch day of the first day
+ * days         varint   number of days n
+ * population   varint   reference population (country, regions or all selected countries)
+ * school       n varints  zigzag delta to the previous day's school holiday population (0 before the first)
+ * public       n varints  public holiday population of the day
+ * </pre>
+ * Varints are unsigned LEB128 (7 bits per byte, least significant group first, high bit set on
+ * all but the last byte). The total population of a day is school plus public. School holiday
+ * populations change only where a holiday starts or ends and public holidays are rare, so almost
+ * every day costs one byte per column, against roughly a hundred bytes per day as JSON.
+ * Weekly aggregates and holiday names are not part of this format.
+ */
+final class LoadColumnsWriter {
+
+    static final String LOAD_COLUMNS_VALUE = "application/vnd.holiday-analyzer.load-columns";
+    static final MediaType LOAD_COLUMNS = MediaType.parseMediaType(LOAD_COLUMNS_VALUE);
+
+    private static final byte[] MAGIC = {'H', 'L', 'C', 1};
+
+    private LoadColumnsWriter() {
+    }
+
+    static byte[] encode(VacationLoadEngine engine, long population) {
+        return encode(engine.getStartDate(), engine.schoolHolidayPopulation(), engine.publicHolidayPopulation(), population);
+    }
+
+    static byte[] encode(List<DailyLoad> dailyLoads, long population) {
+        long[] school = new long[dailyLoads.size()];
+        long[] pub = new long[dailyLoads.size()];
+        for (int i = 0; i < school.length; i++) {
+            school[i] = dailyLoads.get(i).getSchoolHolidayPopulation();
+            pub[i] = dailyLoads.get(i).getPublicHolidayPopulation();
+        }
+        LocalDate startDate = dailyLoads.isEmpty() ? LocalDate.EPOCH : dailyLoads.get(0).getDate();
+        return encode(startDate, school, pub, population);
+    }
+
+    static byte[] encode(LocalDate startDate, long[] school, long[] pub, long population) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + 2 * school.length);
+        out.writeBytes(MAGIC);
+        writeVarint(out, zigzag(startDate.toEpochDay()));
+        writeVarint(out, school.length);
+        writeVarint(out, population);
+        long previous = 0;
+        for (long value : school) {
+            writeVarint(out, zigzag(value - previous));
+            previous = value;
+        }
+        for (long value : pub) {
+            writeVarint(out, value);
+        }
+        return out.toByteArray();
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -2,26 +2,33 @@ package com.holidayanalyzer.controller;
 
 import com.holidayanalyzer.model.Region;
 import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.service.ResponseBodyCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/regions")
 public class RegionController {
 
     private final RegionRepository regionRepository;
+    private final ResponseBodyCache responseBodyCache;
 
-    public RegionController(RegionRepository regionRepository) {
+    public RegionController(RegionRepository regionRepository, ResponseBodyCache responseBodyCache) {
         this.regionRepository = regionRepository;
+        this.responseBodyCache = responseBodyCache;
     }
 
-    @GetMapping
-    public List<Region> getRegions(@RequestParam(required = false) String countryCode) {
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getRegions(
+            @RequestParam(required = false) String countryCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         if (countryCode != null && !countryCode.isEmpty()) {
-            return regionRepository.findByCountryCode(countryCode);
+            return CachedBodyResponses.of(responseBodyCache.get("regions:" + countryCode,
+                    () -> regionRepository.findByCountryCode(countryCode)), acceptEncoding);
         }
-        return regionRepository.findAll();
+        return CachedBodyResponses.of(responseBodyCache.get("regions", regionRepository::findAll), acceptEncoding);
     }
 
     @GetMapping("/{code}")
@@ -1,14 +1,16 @@
 package com.holidayanalyzer.controller;
 
-import com.holidayanalyzer.model.Holiday;
-import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.dto.HolidayView;
+import com.holidayanalyzer.dto.SchoolHolidayView;
 import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
 import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/vacation-analysis")
@@ -17,11 +19,14 @@ public class VacationAnalysisController {
 
     private final HolidayRepository holidayRepository;
     private final SchoolHolidayRepository schoolHolidayRepository;
+    private final RegionRepository regionRepository;
 
     public VacationAnalysisController(HolidayRepository holidayRepository,
-                                      SchoolHolidayRepository schoolHolidayRepository) {
+                                      SchoolHolidayRepository schoolHolidayRepository,
+                                      RegionRepository regionRepository) {
         this.holidayRepository = holidayRepository;
         this.schoolHolidayRepository = schoolHolidayRepository;
+        this.regionRepository = regionRepository;
     }
 
     @GetMapping
@@ -34,60 +39,45 @@ public class VacationAnalysisController {
         LocalDate start = LocalDate.parse(startDate);
         LocalDate end = LocalDate.parse(endDate);
 
-        // Hole alle Jahre im Zeitraum
-        Set<Integer> years = new HashSet<>();
-        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
-            years.add(date.getYear());
-        }
-
-        // Hole Feiertage
-        List<Holiday> holidays = new ArrayList<>();
-        for (int year : years) {
-            holidays.addAll(holidayRepository.findByCountryCodeAndYear(country, year));
-        }
-
-        // Filtere nach Zeitraum und optional nach Region
-        holidays = holidays.stream()
-                .filter(h -> !h.getDate().isBefore(start) && !h.getDate().isAfter(end))
-                .filter(h -> subdivision == null || h.getRegion() == null || h.getRegion().getCode().equals(subdivision))
-                .collect(Collectors.toList());
-
-        // Hole Schulferien
-        List<SchoolHoliday> schoolHolidays = new ArrayList<>();
-        for (int year : years) {
-            schoolHolidays.addAll(schoolHolidayRepository.findByYearAndCountryCode(year, country));
+        VacationAnalysisResponse response = new VacationAnalysisResponse();
+        if (subdivision != null) {
+            // The school holiday query filters by region only
+            if (!regionRepository.existsByCodeAndCountry_Code(subdivision, country)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Subdivision " + subdivision + " does not belong to country " + country);
+            }
+            // Region filter is applied in the queries
+            response.setHolidays(holidayRepository.findViewsByCountryCodeAndDateRangeAndRegions(
+                    country, start, end, List.of(subdivision)));
+            response.setSchoolHolidays(schoolHolidayRepository.findViewsByRegionCodesAndDateRange(
+                    List.of(subdivision), start, end));
+            return response;
         }
 
-        // Filtere Schulferien nach Zeitraum und optional nach Region
-        schoolHolidays = schoolHolidays.stream()
-                .filter(sh -> !sh.getEndDate().isBefore(start) && !sh.getStartDate().isAfter(end))
-                .filter(sh -> subdivision == null || sh.getRegion().getCode().equals(subdivision))
-                .collect(Collectors.toList());
-
-        VacationAnalysisResponse response = new VacationAnalysisResponse();
-        response.setHolidays(holidays);
-        response.setSchoolHolidays(schoolHolidays);
+        // One joined select each for the whole range, school holidays overlapping it included
+        response.setHolidays(holidayRepository.findViewsByCountryCodeAndDateRange(country, start, end));
+        response.setSchoolHolidays(schoolHolidayRepository.findViewsByCountryCodeAndDateRange(country, start, end));
 
         return response;
     }
 
     public static class VacationAnalysisResponse {
-        private List<Holiday> holidays;
-        private List<SchoolHoliday> schoolHolidays;
+        private List<HolidayView> holidays;
+        private List<SchoolHolidayView> schoolHolidays;
 
-        public List<Holiday> getHolidays() {
+        public List<HolidayView> getHolidays() {
             return holidays;
         }
 
-        public void setHolidays(List<Holiday> holidays) {
+        public void setHolidays(List<HolidayView> holidays) {
             this.holidays = holidays;
         }
 
-        public List<SchoolHoliday> getSchoolHolidays() {
+        public List<SchoolHolidayView> getSchoolHolidays() {
             return schoolHolidays;
         }
 
-        public void setSchoolHolidays(List<SchoolHoliday> schoolHolidays) {
+        public void setSchoolHolidays(List<SchoolHolidayView> schoolHolidays) {
             this.schoolHolidays = schoolHolidays;
         }
     }
@@ -1,25 +1,160 @@
 package com.holidayanalyzer.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidayanalyzer.dto.AggregatedVacationLoadResponse;
+import com.holidayanalyzer.dto.PeriodAnalysisResponse;
+import com.holidayanalyzer.dto.PersonDaysResponse;
+import com.holidayanalyzer.dto.VacationLoadRangeResponse;
 import com.holidayanalyzer.dto.VacationLoadResponse;
+import com.holidayanalyzer.service.PersonDaysIndex;
+import com.holidayanalyzer.service.VacationLoadAggregationService;
+import com.holidayanalyzer.service.VacationLoadAggregationService.Aggregation;
+import com.holidayanalyzer.service.VacationLoadCache;
 import com.holidayanalyzer.service.VacationLoadService;
+import com.holidayanalyzer.service.VacationLoadService.CountrySeries;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/vacation-load")
 public class VacationLoadController {
 
+    private final VacationLoadCache vacationLoadCache;
     private final VacationLoadService vacationLoadService;
+    private final VacationLoadAggregationService vacationLoadAggregationService;
+    private final PersonDaysIndex personDaysIndex;
+    private final ObjectMapper objectMapper;
 
-    public VacationLoadController(VacationLoadService vacationLoadService) {
+    public VacationLoadController(VacationLoadCache vacationLoadCache,
+                                  VacationLoadService vacationLoadService,
+                                  VacationLoadAggregationService vacationLoadAggregationService,
+                                  PersonDaysIndex personDaysIndex,
+                                  ObjectMapper objectMapper) {
+        this.vacationLoadCache = vacationLoadCache;
         this.vacationLoadService = vacationLoadService;
+        this.vacationLoadAggregationService = vacationLoadAggregationService;
+        this.personDaysIndex = personDaysIndex;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
     public ResponseEntity<VacationLoadResponse> getVacationLoad(
             @RequestParam(defaultValue = "DE") String countryCode,
+            @RequestParam(required = false, defaultValue = "") List<String> regions,
             @RequestParam int year) {
-        VacationLoadResponse response = vacationLoadService.calculateVacationLoad(countryCode, year);
+        VacationLoadResponse response = vacationLoadCache.getVacationLoad(countryCode, regions, year);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(produces = LoadColumnsWriter.LOAD_COLUMNS_VALUE)
+    public ResponseEntity<byte[]> getVacationLoadColumns(
+            @RequestParam(defaultValue = "DE") String countryCode,
+            @RequestParam(required = false, defaultValue = "") List<String> regions,
+            @RequestParam int year) {
+        VacationLoadResponse response = vacationLoadCache.getVacationLoad(countryCode, regions, year);
+        return ResponseEntity.ok()
+                .contentType(LoadColumnsWriter.LOAD_COLUMNS)
+                .body(LoadColumnsWriter.encode(response.getDailyLoads(), response.getCountryPopulation()));
+    }
+
+    @GetMapping(params = {"startDate", "endDate"})
+    public ResponseEntity<VacationLoadRangeResponse> getVacationLoadForRange(
+            @RequestParam(defaultValue = "DE") String countryCode,
+            @RequestParam(required = false, defaultValue = "") List<String> regions,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        VacationLoadRangeResponse response = vacationLoadService.calculateVacationLoad(countryCode, regions, startDate, endDate);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(params = {"startDate", "endDate"}, produces = DailyLoadNdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamVacationLoadForRange(
+            @RequestParam(defaultValue = "DE") String countryCode,
+            @RequestParam(required = false, defaultValue = "") List<String> regions,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        CountrySeries series = vacationLoadService.calculateSeries(countryCode, regions, startDate, endDate);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(DailyLoadNdjsonWriter.APPLICATION_NDJSON);
+        // Left out rather than sent as 0 when no population is stored
+        if (series.population() != null) {
+            response.header("X-Country-Population", String.valueOf(series.population()));
+        }
+        return response.body(DailyLoadNdjsonWriter.stream(objectMapper.getFactory(), series.engine()));
+    }
+
+    @GetMapping(params = {"startDate", "endDate"}, produces = LoadColumnsWriter.LOAD_COLUMNS_VALUE)
+    public ResponseEntity<byte[]> getVacationLoadColumnsForRange(
+            @RequestParam(defaultValue = "DE") String countryCode,
+            @RequestParam(required = false, defaultValue = "") List<String> regions,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        CountrySeries series = vacationLoadService.calculateSeries(countryCode, regions, startDate, endDate);
+        return ResponseEntity.ok()
+                .contentType(LoadColumnsWriter.LOAD_COLUMNS)
+                .body(LoadColumnsWriter.encode(series.engine(), series.knownPopulation()));
+    }
+
+    @GetMapping("/periods")
+    public ResponseEntity<PeriodAnalysisResponse> getPeriods(
+            @RequestParam(defaultValue = "DE") String countryCode,
+            @RequestParam(required = false, defaultValue = "") List<String> regions,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "week") String granularity,
+            @RequestParam(defaultValue = "5") int count,
+            @RequestParam(defaultValue = "0.5") double peakThreshold,
+            @RequestParam(defaultValue = "0.05") double troughThreshold,
+            @RequestParam(defaultValue = "1") int minLength) {
+        if (!granularity.equals("week") && !granularity.equals("day")) {
+            throw new IllegalArgumentException("granularity must be 'week' or 'day'");
+        }
+        return ResponseEntity.ok(vacationLoadService.detectPeriods(countryCode, regions, startDate, endDate,
+                granularity.equals("week"), count, peakThreshold, troughThreshold, minLength));
+    }
+
+    @GetMapping("/person-days")
+    public ResponseEntity<PersonDaysResponse> getPersonDays(
+            @RequestParam(defaultValue = "DE") String countryCode,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(personDaysIndex.query(countryCode, startDate, endDate));
+    }
+
+    @GetMapping("/aggregate")
+    public ResponseEntity<AggregatedVacationLoadResponse> getAggregatedVacationLoad(
+            @RequestParam(required = false) List<String> countries,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        AggregatedVacationLoadResponse response = vacationLoadAggregationService.aggregate(countries, startDate, endDate);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping(value = "/aggregate", produces = DailyLoadNdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAggregatedVacationLoad(
+            @RequestParam(required = false) List<String> countries,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Aggregation aggregation = vacationLoadAggregationService.computeAggregation(countries, startDate, endDate);
+        return ResponseEntity.ok()
+                .contentType(DailyLoadNdjsonWriter.APPLICATION_NDJSON)
+                .header("X-Total-Population", String.valueOf(aggregation.totalPopulation()))
+                .body(DailyLoadNdjsonWriter.stream(objectMapper.getFactory(), aggregation.combined()));
+    }
+
+    @GetMapping(value = "/aggregate", produces = LoadColumnsWriter.LOAD_COLUMNS_VALUE)
+    public ResponseEntity<byte[]> getAggregatedVacationLoadColumns(
+            @RequestParam(required = false) List<String> countries,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Aggregation aggregation = vacationLoadAggregationService.computeAggregation(countries, startDate, endDate);
+        return ResponseEntity.ok()
+                .contentType(LoadColumnsWriter.LOAD_COLUMNS)
+                .body(LoadColumnsWriter.encode(aggregation.combined(), aggregation.totalPopulation()));
+    }
 }
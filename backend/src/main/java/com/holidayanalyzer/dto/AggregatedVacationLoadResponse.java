@@ -0,0 +1,65 @@
+package com.holidayanalyzer.dto;
+
+import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class AggregatedVacationLoadResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long totalPopulation;
+    private List<DailyLoad> dailyLoads;
+    private List<CountrySubtotal> countries;
+
+    public AggregatedVacationLoadResponse() {}
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public long getTotalPopulation() { return totalPopulation; }
+    public void setTotalPopulation(long totalPopulation) { this.totalPopulation = totalPopulation; }
+
+    public List<DailyLoad> getDailyLoads() { return dailyLoads; }
+    public void setDailyLoads(List<DailyLoad> dailyLoads) { this.dailyLoads = dailyLoads; }
+
+    public List<CountrySubtotal> getCountries() { return countries; }
+    public void setCountries(List<CountrySubtotal> countries) { this.countries = countries; }
+
+    public static class CountrySubtotal {
+        private String countryCode;
+        private String countryName;
+        private long population;
+        private long schoolHolidayPersonDays;
+        private long publicHolidayPersonDays;
+        private LocalDate peakDate;
+        private long peakPopulation;
+
+        public CountrySubtotal() {}
+
+        public String getCountryCode() { return countryCode; }
+        public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+        public String getCountryName() { return countryName; }
+        public void setCountryName(String countryName) { this.countryName = countryName; }
+
+        public long getPopulation() { return population; }
+        public void setPopulation(long population) { this.population = population; }
+
+        public long getSchoolHolidayPersonDays() { return schoolHolidayPersonDays; }
+        public void setSchoolHolidayPersonDays(long schoolHolidayPersonDays) { this.schoolHolidayPersonDays = schoolHolidayPersonDays; }
+
+        public long getPublicHolidayPersonDays() { return publicHolidayPersonDays; }
+        public void setPublicHolidayPersonDays(long publicHolidayPersonDays) { this.publicHolidayPersonDays = publicHolidayPersonDays; }
+
+        public LocalDate getPeakDate() { return peakDate; }
+        public void setPeakDate(LocalDate peakDate) { this.peakDate = peakDate; }
+
+        public long getPeakPopulation() { return peakPopulation; }
+        public void setPeakPopulation(long peakPopulation) { this.peakPopulation = peakPopulation; }
+    }
+}
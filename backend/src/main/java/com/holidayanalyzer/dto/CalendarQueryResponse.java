@@ -0,0 +1,33 @@
+package com.holidayanalyzer.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class CalendarQueryResponse {
+
+    private String expression;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int matchingDays;
+    private List<DateRange> periods;
+
+    public CalendarQueryResponse() {}
+
+    public String getExpression() { return expression; }
+    public void setExpression(String expression) { this.expression = expression; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public int getMatchingDays() { return matchingDays; }
+    public void setMatchingDays(int matchingDays) { this.matchingDays = matchingDays; }
+
+    public List<DateRange> getPeriods() { return periods; }
+    public void setPeriods(List<DateRange> periods) { this.periods = periods; }
+
+    public record DateRange(LocalDate startDate, LocalDate endDate) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.holidayanalyzer.dto;
+
+/**
+ * Outcome of importing one country-year of public holidays: how many fetched holidays were
+ * new, changed or already stored as-is, and how many stored ones were no longer listed.
+ */
+public class HolidayImportResult {
+
+    private final String countryCode;
+    private final int year;
+    private final int fetched;
+    private final int inserted;
+    private final int updated;
+    private final int deleted;
+    private final int unchanged;
+
+    public HolidayImportResult(String countryCode, int year, int fetched,
+                               int inserted, int updated, int deleted, int unchanged) {
+        this.countryCode = countryCode;
+        this.year = year;
+        this.fetched = fetched;
+        this.inserted = inserted;
+        this.updated = updated;
+        this.deleted = deleted;
+        this.unchanged = unchanged;
+    }
+
+    public String getCountryCode() { return countryCode; }
+
+    public int getYear() { return year; }
+
+    public int getFetched() { return fetched; }
+
+    public int getInserted() { return inserted; }
+
+    public int getUpdated() { return updated; }
+
+    public int getDeleted() { return deleted; }
+
+    public int getUnchanged() { return unchanged; }
+
+    public int getChanged() { return inserted + updated + deleted; }
+}
@@ -0,0 +1,41 @@
+package com.holidayanalyzer.dto;
+
+import java.util.List;
+
+/**
+ * Aggregated outcome of importing several (country, year) pairs: one
+ * {@link HolidayImportResult} per successful pair, one {@link Failure} per failed one.
+ */
+public class HolidayImportSummary {
+
+    private final List<HolidayImportResult> results;
+    private final List<Failure> failures;
+    private final long durationMillis;
+
+    public HolidayImportSummary(List<HolidayImportResult> results, List<Failure> failures, long durationMillis) {
+        this.results = results;
+        this.failures = failures;
+        this.durationMillis = durationMillis;
+    }
+
+    public int getSucceeded() { return results.size(); }
+
+    public int getFailed() { return failures.size(); }
+
+    public int getInserted() { return results.stream().mapToInt(HolidayImportResult::getInserted).sum(); }
+
+    public int getUpdated() { return results.stream().mapToInt(HolidayImportResult::getUpdated).sum(); }
+
+    public int getDeleted() { return results.stream().mapToInt(HolidayImportResult::getDeleted).sum(); }
+
+    public int getUnchanged() { return results.stream().mapToInt(HolidayImportResult::getUnchanged).sum(); }
+
+    public long getDurationMillis() { return durationMillis; }
+
+    public List<HolidayImportResult> getResults() { return results; }
+
+    public List<Failure> getFailures() { return failures; }
+
+    public record Failure(String countryCode, int year, String error) {
+    }
+}
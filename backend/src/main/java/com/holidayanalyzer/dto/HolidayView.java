@@ -0,0 +1,72 @@
+package com.holidayanalyzer.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only public holiday row with its region (if any) and its country's population,
+ * selected in one joined query through a JPQL constructor expression. Serializes like a
+ * {@link Holiday} without the nested country objects.
+ */
+public class HolidayView {
+
+    private final Long id;
+    private final LocalDate date;
+    private final String localName;
+    private final String englishName;
+    private final String countryCode;
+    private final boolean globalHoliday;
+    private final String types;
+    private final int year;
+    private final RegionSummary region;
+    private final Long countryPopulation;
+
+    public HolidayView(Long id, LocalDate date, String localName, String englishName, String countryCode,
+                       boolean globalHoliday, String types, int year,
+                       Long regionId, String regionCode, String regionName, Long regionPopulation,
+                       Long countryPopulation) {
+        this.id = id;
+        this.date = date;
+        this.localName = localName;
+        this.englishName = englishName;
+        this.countryCode = countryCode;
+        this.globalHoliday = globalHoliday;
+        this.types = types;
+        this.year = year;
+        this.region = regionCode != null ? new RegionSummary(regionId, regionCode, regionName, regionPopulation) : null;
+        this.countryPopulation = countryPopulation;
+    }
+
+    public static HolidayView of(Holiday h) {
+        Region r = h.getRegion();
+        return new HolidayView(h.getId(), h.getDate(), h.getLocalName(), h.getEnglishName(), h.getCountryCode(),
+                h.isGlobalHoliday(), h.getTypes(), h.getYear(),
+                r != null ? r.getId() : null, r != null ? r.getCode() : null,
+                r != null ? r.getName() : null, r != null ? r.getPopulation() : null,
+                h.getCountry() != null ? h.getCountry().getPopulation() : null);
+    }
+
+    public Long getId() { return id; }
+
+    public LocalDate getDate() { return date; }
+
+    public String getLocalName() { return localName; }
+
+    public String getEnglishName() { return englishName; }
+
+    public String getCountryCode() { return countryCode; }
+
+    public boolean isGlobalHoliday() { return globalHoliday; }
+
+    public String getTypes() { return types; }
+
+    public int getYear() { return year; }
+
+    public RegionSummary getRegion() { return region; }
+
+    @JsonIgnore
+    public Long getCountryPopulation() { return countryPopulation; }
+}
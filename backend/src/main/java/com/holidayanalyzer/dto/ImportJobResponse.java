@@ -0,0 +1,133 @@
+package com.holidayanalyzer.dto;
+
+import com.holidayanalyzer.model.ImportJob;
+import com.holidayanalyzer.model.ImportJobUnit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of an import job with its progress per country. Unit counts are (country, year)
+ * pairs; holiday counts add up the units that have succeeded so far.
+ */
+public class ImportJobResponse {
+
+    private final Long id;
+    private final ImportJob.Status status;
+    private final boolean cancelRequested;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final Progress total;
+    private final List<CountryProgress> countries;
+
+    private ImportJobResponse(ImportJob job, Progress total, List<CountryProgress> countries) {
+        this.id = job.getId();
+        this.status = job.getStatus();
+        this.cancelRequested = job.isCancelRequested();
+        this.createdAt = job.getCreatedAt();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.total = total;
+        this.countries = countries;
+    }
+
+    public static ImportJobResponse of(ImportJob job, List<ImportJobUnit> units) {
+        Progress total = new Progress();
+        Map<String, CountryProgress> byCountry = new LinkedHashMap<>();
+        for (ImportJobUnit unit : units) {
+            total.add(unit);
+            byCountry.computeIfAbsent(unit.getCountryCode(), CountryProgress::new).add(unit);
+        }
+        return new ImportJobResponse(job, total, new ArrayList<>(byCountry.values()));
+    }
+
+    public Long getId() { return id; }
+
+    public ImportJob.Status getStatus() { return status; }
+
+    public boolean isCancelRequested() { return cancelRequested; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+
+    public Progress getTotal() { return total; }
+
+    public List<CountryProgress> getCountries() { return countries; }
+
+    public static class Progress {
+
+        private int units;
+        private int pending;
+        private int succeeded;
+        private int failed;
+        private int cancelled;
+        private int inserted;
+        private int updated;
+        private int deleted;
+        private int unchanged;
+
+        void add(ImportJobUnit unit) {
+            units++;
+            switch (unit.getStatus()) {
+                case PENDING -> pending++;
+                case SUCCEEDED -> succeeded++;
+                case FAILED -> failed++;
+                case CANCELLED -> cancelled++;
+            }
+            inserted += unit.getInserted();
+            updated += unit.getUpdated();
+            deleted += unit.getDeleted();
+            unchanged += unit.getUnchanged();
+        }
+
+        public int getUnits() { return units; }
+
+        public int getPending() { return pending; }
+
+        public int getSucceeded() { return succeeded; }
+
+        public int getFailed() { return failed; }
+
+        public int getCancelled() { return cancelled; }
+
+        public int getInserted() { return inserted; }
+
+        public int getUpdated() { return updated; }
+
+        public int getDeleted() { return deleted; }
+
+        public int getUnchanged() { return unchanged; }
+    }
+
+    public static class CountryProgress extends Progress {
+
+        private final String countryCode;
+        private final List<UnitError> errors = new ArrayList<>();
+
+        CountryProgress(String countryCode) {
+            this.countryCode = countryCode;
+        }
+
+        @Override
+        void add(ImportJobUnit unit) {
+            super.add(unit);
+            if (unit.getError() != null) {
+                errors.add(new UnitError(unit.getYear(), unit.getError()));
+            }
+        }
+
+        public String getCountryCode() { return countryCode; }
+
+        public List<UnitError> getErrors() { return errors; }
+    }
+
+    public record UnitError(int year, String message) {
+    }
+}
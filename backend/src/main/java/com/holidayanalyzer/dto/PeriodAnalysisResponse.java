@@ -0,0 +1,67 @@
+package com.holidayanalyzer.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class PeriodAnalysisResponse {
+
+    private String countryCode;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String granularity;
+    private long maxPopulation;
+    private List<LoadPeriod> peaks;
+    private List<LoadPeriod> troughs;
+
+    public PeriodAnalysisResponse() {}
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public String getGranularity() { return granularity; }
+    public void setGranularity(String granularity) { this.granularity = granularity; }
+
+    public long getMaxPopulation() { return maxPopulation; }
+    public void setMaxPopulation(long maxPopulation) { this.maxPopulation = maxPopulation; }
+
+    public List<LoadPeriod> getPeaks() { return peaks; }
+    public void setPeaks(List<LoadPeriod> peaks) { this.peaks = peaks; }
+
+    public List<LoadPeriod> getTroughs() { return troughs; }
+    public void setTroughs(List<LoadPeriod> troughs) { this.troughs = troughs; }
+
+    public static class LoadPeriod {
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private LocalDate peakDate; // highest day of a peak, lowest day of a trough
+        private long maxPopulation;
+        private long averagePopulation;
+        private List<String> schoolHolidays;
+
+        public LoadPeriod() {}
+
+        public LocalDate getStartDate() { return startDate; }
+        public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+        public LocalDate getEndDate() { return endDate; }
+        public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+        public LocalDate getPeakDate() { return peakDate; }
+        public void setPeakDate(LocalDate peakDate) { this.peakDate = peakDate; }
+
+        public long getMaxPopulation() { return maxPopulation; }
+        public void setMaxPopulation(long maxPopulation) { this.maxPopulation = maxPopulation; }
+
+        public long getAveragePopulation() { return averagePopulation; }
+        public void setAveragePopulation(long averagePopulation) { this.averagePopulation = averagePopulation; }
+
+        public List<String> getSchoolHolidays() { return schoolHolidays; }
+        public void setSchoolHolidays(List<String> schoolHolidays) { this.schoolHolidays = schoolHolidays; }
+    }
+}
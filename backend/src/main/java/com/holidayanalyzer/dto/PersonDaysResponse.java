@@ -0,0 +1,33 @@
+package com.holidayanalyzer.dto;
+
+import java.time.LocalDate;
+
+public class PersonDaysResponse {
+
+    private String countryCode;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long schoolHolidayPersonDays;
+    private long publicHolidayPersonDays;
+    private long totalPersonDays;
+
+    public PersonDaysResponse() {}
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public long getSchoolHolidayPersonDays() { return schoolHolidayPersonDays; }
+    public void setSchoolHolidayPersonDays(long schoolHolidayPersonDays) { this.schoolHolidayPersonDays = schoolHolidayPersonDays; }
+
+    public long getPublicHolidayPersonDays() { return publicHolidayPersonDays; }
+    public void setPublicHolidayPersonDays(long publicHolidayPersonDays) { this.publicHolidayPersonDays = publicHolidayPersonDays; }
+
+    public long getTotalPersonDays() { return totalPersonDays; }
+    public void setTotalPersonDays(long totalPersonDays) { this.totalPersonDays = totalPersonDays; }
+}
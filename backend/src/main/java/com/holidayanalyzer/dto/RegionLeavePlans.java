@@ -0,0 +1,59 @@
+package com.holidayanalyzer.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class RegionLeavePlans {
+
+    private String regionCode;
+    private String regionName;
+    private String countryCode;
+    private List<LeavePlan> plans;
+
+    public RegionLeavePlans() {}
+
+    public String getRegionCode() { return regionCode; }
+    public void setRegionCode(String regionCode) { this.regionCode = regionCode; }
+
+    public String getRegionName() { return regionName; }
+    public void setRegionName(String regionName) { this.regionName = regionName; }
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+    public List<LeavePlan> getPlans() { return plans; }
+    public void setPlans(List<LeavePlan> plans) { this.plans = plans; }
+
+    public static class LeavePlan {
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private int daysOff;
+        private int leaveDays;
+        private List<LocalDate> leaveDates;
+        private double averageLoadPercentage;
+        private double score;
+
+        public LeavePlan() {}
+
+        public LocalDate getStartDate() { return startDate; }
+        public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+        public LocalDate getEndDate() { return endDate; }
+        public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+        public int getDaysOff() { return daysOff; }
+        public void setDaysOff(int daysOff) { this.daysOff = daysOff; }
+
+        public int getLeaveDays() { return leaveDays; }
+        public void setLeaveDays(int leaveDays) { this.leaveDays = leaveDays; }
+
+        public List<LocalDate> getLeaveDates() { return leaveDates; }
+        public void setLeaveDates(List<LocalDate> leaveDates) { this.leaveDates = leaveDates; }
+
+        public double getAverageLoadPercentage() { return averageLoadPercentage; }
+        public void setAverageLoadPercentage(double averageLoadPercentage) { this.averageLoadPercentage = averageLoadPercentage; }
+
+        public double getScore() { return score; }
+        public void setScore(double score) { this.score = score; }
+    }
+}
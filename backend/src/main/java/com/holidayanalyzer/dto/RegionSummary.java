@@ -0,0 +1,27 @@
+package com.holidayanalyzer.dto;
+
+/**
+ * Region fields embedded in {@link HolidayView} and {@link SchoolHolidayView}.
+ */
+public class RegionSummary {
+
+    private final Long id;
+    private final String code;
+    private final String name;
+    private final Long population;
+
+    public RegionSummary(Long id, String code, String name, Long population) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+        this.population = population;
+    }
+
+    public Long getId() { return id; }
+
+    public String getCode() { return code; }
+
+    public String getName() { return name; }
+
+    public Long getPopulation() { return population; }
+}
@@ -0,0 +1,49 @@
+package com.holidayanalyzer.dto;
+
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only school holiday row with its region, selected in one joined query through a JPQL
+ * constructor expression instead of loading the lazy region of each managed entity.
+ * Serializes like a {@link SchoolHoliday} whose region carries no country.
+ */
+public class SchoolHolidayView {
+
+    private final Long id;
+    private final String name;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int year;
+    private final RegionSummary region;
+
+    public SchoolHolidayView(Long id, String name, LocalDate startDate, LocalDate endDate, int year,
+                             Long regionId, String regionCode, String regionName, Long regionPopulation) {
+        this.id = id;
+        this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.year = year;
+        this.region = new RegionSummary(regionId, regionCode, regionName, regionPopulation);
+    }
+
+    public static SchoolHolidayView of(SchoolHoliday sh) {
+        Region r = sh.getRegion();
+        return new SchoolHolidayView(sh.getId(), sh.getName(), sh.getStartDate(), sh.getEndDate(), sh.getYear(),
+                r.getId(), r.getCode(), r.getName(), r.getPopulation());
+    }
+
+    public Long getId() { return id; }
+
+    public String getName() { return name; }
+
+    public LocalDate getStartDate() { return startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+
+    public int getYear() { return year; }
+
+    public RegionSummary getRegion() { return region; }
+}
@@ -0,0 +1,45 @@
+package com.holidayanalyzer.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class UpcomingHoliday {
+
+    private String name;
+    private LocalDate date;
+    private LocalDate endDate;
+    private String type; // "public" or "school"
+    private String countryCode;
+    private boolean global;
+    private long affectedPopulation;
+    private List<String> regions;
+
+    public UpcomingHoliday() {}
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+
+    @JsonProperty("isGlobal")
+    public boolean isGlobal() { return global; }
+    public void setGlobal(boolean global) { this.global = global; }
+
+    public long getAffectedPopulation() { return affectedPopulation; }
+    public void setAffectedPopulation(long affectedPopulation) { this.affectedPopulation = affectedPopulation; }
+
+    public List<String> getRegions() { return regions; }
+    public void setRegions(List<String> regions) { this.regions = regions; }
+}
@@ -0,0 +1,33 @@
+package com.holidayanalyzer.dto;
+
+import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
+import com.holidayanalyzer.dto.VacationLoadResponse.WeeklyLoad;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class VacationLoadRangeResponse {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long countryPopulation;
+    private List<WeeklyLoad> weeklyLoads;
+    private List<DailyLoad> dailyLoads;
+
+    public VacationLoadRangeResponse() {}
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public long getCountryPopulation() { return countryPopulation; }
+    public void setCountryPopulation(long countryPopulation) { this.countryPopulation = countryPopulation; }
+
+    public List<WeeklyLoad> getWeeklyLoads() { return weeklyLoads; }
+    public void setWeeklyLoads(List<WeeklyLoad> weeklyLoads) { this.weeklyLoads = weeklyLoads; }
+
+    public List<DailyLoad> getDailyLoads() { return dailyLoads; }
+    public void setDailyLoads(List<DailyLoad> dailyLoads) { this.dailyLoads = dailyLoads; }
+}
@@ -0,0 +1,38 @@
+package com.holidayanalyzer.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class WeekendAnalysis {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private double loadPercentage;
+    private long affectedPopulation;
+    private String level;
+    private List<String> affectedRegions;
+    private String countryCode;
+
+    public WeekendAnalysis() {}
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public double getLoadPercentage() { return loadPercentage; }
+    public void setLoadPercentage(double loadPercentage) { this.loadPercentage = loadPercentage; }
+
+    public long getAffectedPopulation() { return affectedPopulation; }
+    public void setAffectedPopulation(long affectedPopulation) { this.affectedPopulation = affectedPopulation; }
+
+    public String getLevel() { return level; }
+    public void setLevel(String level) { this.level = level; }
+
+    public List<String> getAffectedRegions() { return affectedRegions; }
+    public void setAffectedRegions(List<String> affectedRegions) { this.affectedRegions = affectedRegions; }
+
+    public String getCountryCode() { return countryCode; }
+    public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+}
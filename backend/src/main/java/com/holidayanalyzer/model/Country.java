@@ -9,7 +9,8 @@ import jakarta.persistence.*;
 public class Country {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "countries_id_seq")
+    @SequenceGenerator(name = "countries_id_seq", sequenceName = "countries_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 5)
@@ -9,7 +9,8 @@ import java.time.LocalDate;
 public class Holiday {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holidays_id_seq")
+    @SequenceGenerator(name = "holidays_id_seq", sequenceName = "holidays_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
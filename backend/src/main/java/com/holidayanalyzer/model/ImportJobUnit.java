@@ -0,0 +1,152 @@
+package com.holidayanalyzer.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One (country, year) import of an {@link ImportJob}. A unit stays PENDING until its import
+ * has finished, so units interrupted by a restart are simply run again.
+ */
+@Entity
+@Table(name = "import_job_units")
+public class ImportJobUnit {
+
+    public enum Status {
+        PENDING, SUCCEEDED, FAILED, CANCELLED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "import_job_units_id_seq")
+    @SequenceGenerator(name = "import_job_units_id_seq", sequenceName = "import_job_units_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id")
+    private ImportJob job;
+
+    @Column(name = "country_code", nullable = false)
+    private String countryCode;
+
+    @Column(nullable = false)
+    private int year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private int inserted;
+
+    @Column(nullable = false)
+    private int updated;
+
+    @Column(nullable = false)
+    private int deleted;
+
+    @Column(nullable = false)
+    private int unchanged;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public ImportJobUnit() {
+    }
+
+    public ImportJobUnit(ImportJob job, String countryCode, int year) {
+        this.job = job;
+        this.countryCode = countryCode;
+        this.year = year;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ImportJob getJob() {
+        return job;
+    }
+
+    public void setJob(ImportJob job) {
+        this.job = job;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
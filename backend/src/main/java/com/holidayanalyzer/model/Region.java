@@ -9,7 +9,8 @@ import jakarta.persistence.*;
 public class Region {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "regions_id_seq")
+    @SequenceGenerator(name = "regions_id_seq", sequenceName = "regions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 10)
@@ -11,7 +11,8 @@ import java.time.LocalDate;
 public class SchoolHoliday {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "school_holidays_id_seq")
+    @SequenceGenerator(name = "school_holidays_id_seq", sequenceName = "school_holidays_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -1,18 +1,49 @@
 package com.holidayanalyzer.repository;
 
+import com.holidayanalyzer.dto.HolidayView;
 import com.holidayanalyzer.model.Holiday;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
-public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+public interface HolidayRepository extends JpaRepository<Holiday, Long>, HolidayRepositoryCustom {
+
+    // Flat read projection: holiday, optional region and country population in one joined select
+    String VIEW = """
+        select new com.holidayanalyzer.dto.HolidayView(
+            h.id, h.date, h.localName, h.englishName, h.countryCode, h.globalHoliday, h.types, h.year,
+            r.id, r.code, r.name, r.population, c.population)
+        from Holiday h
+        join h.country c
+        left join h.region r
+        """;
 
     List<Holiday> findByCountryCode(String countryCode);
     
     List<Holiday> findByCountryCodeAndYear(String countryCode, int year);
 
+    @Query("""
+        select h from Holiday h
+        left join fetch h.region
+        where h.countryCode = :countryCode
+        """)
+    List<Holiday> findByCountryCodeWithRegion(@Param("countryCode") String countryCode);
+
+    @Query("""
+        select h from Holiday h
+        join fetch h.country
+        left join fetch h.region
+        where h.date between :startDate and :endDate
+        """)
+    List<Holiday> findByDateRangeWithRegion(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     @Query("""
         select h from Holiday h
         where h.countryCode = :countryCode
@@ -27,4 +58,39 @@ public interface HolidayRepository extends JpaRepository<Holiday, Long> {
             @Param("year") int year,
             @Param("regionCode") String regionCode
     );
+
+    @Query(VIEW + "where h.countryCode = :countryCode")
+    List<HolidayView> findViewsByCountryCode(@Param("countryCode") String countryCode);
+
+    @Query(VIEW + "where h.countryCode = :countryCode and h.year = :year")
+    List<HolidayView> findViewsByCountryCodeAndYear(
+            @Param("countryCode") String countryCode,
+            @Param("year") int year
+    );
+
+    @Query(VIEW + "where h.countryCode = :countryCode and h.year = :year and (r is null or r.code in :regionCodes)")
+    List<HolidayView> findViewsByCountryCodeYearAndRegions(
+            @Param("countryCode") String countryCode,
+            @Param("year") int year,
+            @Param("regionCodes") Collection<String> regionCodes
+    );
+
+    @Query(VIEW + "where h.countryCode = :countryCode and h.date between :startDate and :endDate")
+    List<HolidayView> findViewsByCountryCodeAndDateRange(
+            @Param("countryCode") String countryCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query(VIEW + """
+        where h.countryCode = :countryCode
+          and h.date between :startDate and :endDate
+          and (r is null or r.code in :regionCodes)
+        """)
+    List<HolidayView> findViewsByCountryCodeAndDateRangeAndRegions(
+            @Param("countryCode") String countryCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("regionCodes") Collection<String> regionCodes
+    );
 }
@@ -0,0 +1,18 @@
+package com.holidayanalyzer.repository;
+
+import com.holidayanalyzer.model.Holiday;
+
+import java.util.Collection;
+
+public interface HolidayRepositoryCustom {
+
+    /**
+     * Inserts the holidays, or updates the stored row with the same natural key (country,
+     * date, region, English name), in one batched statement. Rows whose name, flags and types
+     * are unchanged are left alone.
+     *
+     * No row count is returned: with rewritten batch inserts the driver reports every row as
+     * SUCCESS_NO_INFO, unchanged ones included. Callers know what they write from their own diff.
+     */
+    void upsertAll(Collection<Holiday> holidays);
+}
@@ -0,0 +1,54 @@
+package com.holidayanalyzer.repository;
+
+import com.holidayanalyzer.model.Holiday;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.Collection;
+
+/**
+ * JDBC part of {@link HolidayRepository}. The conflict target matches the
+ * {@code uk_holidays_natural_key} index (V4 migration).
+ */
+class HolidayRepositoryImpl implements HolidayRepositoryCustom {
+
+    private static final String UPSERT = """
+        INSERT INTO holidays (id, country_id, country_code, date, local_name, english_name,
+                              global_holiday, types, region_id, year)
+        VALUES (nextval('holidays_id_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (country_id, date, COALESCE(region_id, 0), english_name) DO UPDATE
+        SET local_name = EXCLUDED.local_name,
+            global_holiday = EXCLUDED.global_holiday,
+            types = EXCLUDED.types
+        WHERE (holidays.local_name, holidays.global_holiday, holidays.types)
+              IS DISTINCT FROM (EXCLUDED.local_name, EXCLUDED.global_holiday, EXCLUDED.types)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    HolidayRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void upsertAll(Collection<Holiday> holidays) {
+        if (holidays.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPSERT, holidays, holidays.size(), (ps, h) -> {
+            ps.setLong(1, h.getCountry().getId());
+            ps.setString(2, h.getCountryCode());
+            ps.setDate(3, Date.valueOf(h.getDate()));
+            ps.setString(4, h.getLocalName());
+            ps.setString(5, h.getEnglishName());
+            ps.setBoolean(6, h.isGlobalHoliday());
+            ps.setString(7, h.getTypes());
+            if (h.getRegion() != null) {
+                ps.setLong(8, h.getRegion().getId());
+            } else {
+                ps.setNull(8, Types.BIGINT);
+            }
+            ps.setInt(9, h.getYear());
+        });
+    }
+}
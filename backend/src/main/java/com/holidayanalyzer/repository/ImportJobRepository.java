@@ -0,0 +1,71 @@
+package com.holidayanalyzer.repository;
+
+import com.holidayanalyzer.model.ImportJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    /**
+     * Unfinished jobs this instance may run: its own, and those whose owner has stopped
+     * sending heartbeats.
+     */
+    @Query("""
+            select j.id from ImportJob j
+            where j.status in :statuses
+              and (j.claimedBy = :instance or j.claimedBy is null or j.heartbeatAt < :staleBefore)
+            order by j.id
+            """)
+    List<Long> findClaimable(@Param("statuses") Collection<ImportJob.Status> statuses,
+                             @Param("instance") String instance,
+                             @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Takes over the job unless another instance claimed it since {@link #findClaimable}.
+     *
+     * @return 1 if this instance now owns the job
+     */
+    @Modifying
+    @Query("""
+            update ImportJob j set j.claimedBy = :instance, j.heartbeatAt = :now
+            where j.id = :id and j.status in :statuses
+              and (j.claimedBy = :instance or j.claimedBy is null or j.heartbeatAt < :staleBefore)
+            """)
+    int claim(@Param("id") Long id,
+              @Param("statuses") Collection<ImportJob.Status> statuses,
+              @Param("instance") String instance,
+              @Param("staleBefore") LocalDateTime staleBefore,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * @return the number of the given jobs this instance still owns
+     */
+    @Modifying
+    @Query("update ImportJob j set j.heartbeatAt = :now where j.id in :ids and j.claimedBy = :instance")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("instance") String instance, @Param("now") LocalDateTime now);
+
+    /**
+     * Locks the job until the end of the transaction, so {@link #claim} cannot take it over
+     * between checking its owner and writing it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from ImportJob j where j.id = :id")
+    Optional<ImportJob> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select j.id from ImportJob j where j.id in :ids and j.claimedBy = :instance")
+    List<Long> findClaimedBy(@Param("ids") Collection<Long> ids, @Param("instance") String instance);
+
+    @Query("select j.id from ImportJob j where j.id in :ids and j.cancelRequested = true")
+    List<Long> findCancelRequested(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,29 @@
+package com.holidayanalyzer.repository;
+
+import com.holidayanalyzer.model.ImportJobUnit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImportJobUnitRepository extends JpaRepository<ImportJobUnit, Long> {
+
+    List<ImportJobUnit> findByJobIdOrderByCountryCodeAscYearAsc(Long jobId);
+
+    List<ImportJobUnit> findByJobIdAndStatus(Long jobId, ImportJobUnit.Status status);
+
+    Optional<ImportJobUnit> findByJobIdAndCountryCodeAndYear(Long jobId, String countryCode, int year);
+
+    @Modifying
+    @Query("update ImportJobUnit u set u.status = :to, u.finishedAt = :now where u.job.id = :jobId and u.status = :from")
+    int updateStatus(@Param("jobId") Long jobId,
+                     @Param("from") ImportJobUnit.Status from,
+                     @Param("to") ImportJobUnit.Status to,
+                     @Param("now") LocalDateTime now);
+}
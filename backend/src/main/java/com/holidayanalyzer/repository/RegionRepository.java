@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,14 @@ public interface RegionRepository extends JpaRepository<Region, Long> {
 
     Optional<Region> findByCode(String code);
 
+    boolean existsByCodeAndCountry_Code(String code, String countryCode);
+
+    @Query("SELECT r FROM Region r JOIN FETCH r.country WHERE r.code IN :codes")
+    List<Region> findByCodeIn(@Param("codes") Collection<String> codes);
+
+    @Query("SELECT r FROM Region r JOIN FETCH r.country")
+    List<Region> findAllWithCountry();
+
     @Query("SELECT r FROM Region r WHERE r.country.code = :countryCode")
     List<Region> findByCountryCode(@Param("countryCode") String countryCode);
 }
@@ -1,5 +1,6 @@
 package com.holidayanalyzer.repository;
 
+import com.holidayanalyzer.dto.SchoolHolidayView;
 import com.holidayanalyzer.model.SchoolHoliday;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,20 +8,49 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SchoolHolidayRepository extends JpaRepository<SchoolHoliday, Long> {
 
+    // Flat read projection: school holiday and region columns in one joined select
+    String VIEW = "SELECT new com.holidayanalyzer.dto.SchoolHolidayView(sh.id, sh.name, sh.startDate, sh.endDate, sh.year, "
+            + "r.id, r.code, r.name, r.population) FROM SchoolHoliday sh JOIN sh.region r ";
+
     @Query("SELECT sh FROM SchoolHoliday sh WHERE sh.region.code = :regionCode AND sh.year = :year")
     List<SchoolHoliday> findByRegionCodeAndYear(@Param("regionCode") String regionCode, @Param("year") int year);
 
     @Query("SELECT sh FROM SchoolHoliday sh WHERE sh.region.code = :regionCode AND sh.startDate <= :endDate AND sh.endDate >= :startDate")
     List<SchoolHoliday> findByRegionCodeAndDateRange(@Param("regionCode") String regionCode, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    @Query("SELECT sh FROM SchoolHoliday sh WHERE sh.region.country.code = :countryCode")
+    List<SchoolHoliday> findByCountryCode(@Param("countryCode") String countryCode);
+
+    @Query("SELECT sh FROM SchoolHoliday sh JOIN FETCH sh.region r WHERE r.country.code = :countryCode")
+    List<SchoolHoliday> findByCountryCodeWithRegion(@Param("countryCode") String countryCode);
+
     @Query("SELECT sh FROM SchoolHoliday sh WHERE sh.region.country.code = :countryCode AND sh.year = :year")
     List<SchoolHoliday> findByCountryCodeAndYear(@Param("countryCode") String countryCode, @Param("year") int year);
 
     @Query("SELECT sh FROM SchoolHoliday sh JOIN sh.region r JOIN r.country c WHERE sh.year = :year AND c.code = :countryCode")
     List<SchoolHoliday> findByYearAndCountryCode(@Param("year") int year, @Param("countryCode") String countryCode);
+
+    @Query("SELECT sh FROM SchoolHoliday sh JOIN FETCH sh.region r JOIN FETCH r.country WHERE sh.startDate <= :endDate AND sh.endDate >= :startDate")
+    List<SchoolHoliday> findByDateRangeWithRegion(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW + "WHERE r.country.code = :countryCode")
+    List<SchoolHolidayView> findViewsByCountryCode(@Param("countryCode") String countryCode);
+
+    @Query(VIEW + "WHERE r.country.code = :countryCode AND sh.year = :year")
+    List<SchoolHolidayView> findViewsByCountryCodeAndYear(@Param("countryCode") String countryCode, @Param("year") int year);
+
+    @Query(VIEW + "WHERE r.code IN :regionCodes AND sh.year = :year")
+    List<SchoolHolidayView> findViewsByRegionCodesAndYear(@Param("regionCodes") Collection<String> regionCodes, @Param("year") int year);
+
+    @Query(VIEW + "WHERE r.country.code = :countryCode AND sh.startDate <= :endDate AND sh.endDate >= :startDate")
+    List<SchoolHolidayView> findViewsByCountryCodeAndDateRange(@Param("countryCode") String countryCode, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(VIEW + "WHERE r.code IN :regionCodes AND sh.startDate <= :endDate AND sh.endDate >= :startDate")
+    List<SchoolHolidayView> findViewsByRegionCodesAndDateRange(@Param("regionCodes") Collection<String> regionCodes, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
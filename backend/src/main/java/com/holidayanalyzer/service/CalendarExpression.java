@@ -0,0 +1,197 @@
+package com.holidayanalyzer.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Set expression over holiday calendars, e.g. {@code DE-NW & NL} or {@code all(AT) | CH:public}.
+ *
+ * Grammar, lowest precedence first; {@code and}, {@code or} and {@code not} may be written
+ * instead of the symbols:
+ * <pre>
+ * expr    := term ('|' term)*
+ * term    := factor (('&amp;' | '-') factor)*
+ * factor  := '!' factor | '(' expr ')' | operand
+ * operand := ('any' | 'all') '(' CODE ')' | CODE (':school' | ':public')?
+ * </pre>
+ * {@code a - b} is the set difference; as codes contain hyphens ({@code DE-NW}), it has to
+ * be separated by whitespace. Evaluation works on whole {@link BitSet}s, so every
+ * operator costs one pass over the words of the queried range.
+ */
+final class CalendarExpression {
+
+    enum Kind { BOTH, SCHOOL, PUBLIC }
+
+    /**
+     * A calendar reference. {@code code} is a region or country code; {@code all} asks for the
+     * days on which every region of a country is off rather than at least one.
+     */
+    record Operand(String code, Kind kind, boolean all) {
+    }
+
+    private final Node root;
+    private final List<Operand> operands = new ArrayList<>();
+
+    private CalendarExpression(String text) {
+        Parser parser = new Parser(text);
+        this.root = parser.expr();
+        if (parser.peek() != null) {
+            throw new IllegalArgumentException("Unexpected '" + parser.peek() + "' in expression");
+        }
+    }
+
+    static CalendarExpression parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Expression must not be empty");
+        }
+        return new CalendarExpression(text);
+    }
+
+    List<Operand> operands() {
+        return operands;
+    }
+
+    /**
+     * @param days     number of days in the queried range; bounds the complement
+     * @param calendar resolves an operand to its days off, indexed by day offset
+     */
+    BitSet evaluate(int days, Function<Operand, BitSet> calendar) {
+        return root.evaluate(days, calendar);
+    }
+
+    private interface Node {
+        BitSet evaluate(int days, Function<Operand, BitSet> calendar);
+    }
+
+    private final class Parser {
+        private final List<String> tokens = new ArrayList<>();
+        private int position;
+
+        Parser(String text) {
+            int i = 0;
+            while (i < text.length()) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if ("&|!()-".indexOf(c) >= 0) {
+                    tokens.add(String.valueOf(c));
+                    i++;
+                } else if (isCodeChar(c)) {
+                    int start = i;
+                    while (i < text.length() && (isCodeChar(text.charAt(i)) || text.charAt(i) == ':'
+                            || (text.charAt(i) == '-' && i + 1 < text.length() && isCodeChar(text.charAt(i + 1))))) {
+                        i++;
+                    }
+                    String word = text.substring(start, i);
+                    switch (word.toLowerCase(Locale.ROOT)) {
+                        case "and" -> tokens.add("&");
+                        case "or" -> tokens.add("|");
+                        case "not" -> tokens.add("!");
+                        default -> tokens.add(word);
+                    }
+                } else {
+                    throw new IllegalArgumentException("Unexpected character '" + c + "' in expression");
+                }
+            }
+        }
+
+        String peek() {
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+
+        String next() {
+            String token = peek();
+            if (token == null) throw new IllegalArgumentException("Unexpected end of expression");
+            position++;
+            return token;
+        }
+
+        void expect(String token) {
+            String actual = next();
+            if (!actual.equals(token)) {
+                throw new IllegalArgumentException("Expected '" + token + "' but found '" + actual + "'");
+            }
+        }
+
+        Node expr() {
+            Node left = term();
+            while ("|".equals(peek())) {
+                next();
+                Node l = left, r = term();
+                left = (days, calendar) -> {
+                    BitSet result = l.evaluate(days, calendar);
+                    result.or(r.evaluate(days, calendar));
+                    return result;
+                };
+            }
+            return left;
+        }
+
+        Node term() {
+            Node left = factor();
+            while ("&".equals(peek()) || "-".equals(peek())) {
+                boolean difference = next().equals("-");
+                Node l = left, r = factor();
+                left = (days, calendar) -> {
+                    BitSet result = l.evaluate(days, calendar);
+                    if (difference) result.andNot(r.evaluate(days, calendar));
+                    else result.and(r.evaluate(days, calendar));
+                    return result;
+                };
+            }
+            return left;
+        }
+
+        Node factor() {
+            String token = next();
+            if (token.equals("!")) {
+                Node inner = factor();
+                return (days, calendar) -> {
+                    BitSet result = inner.evaluate(days, calendar);
+                    result.flip(0, days);
+                    return result;
+                };
+            }
+            if (token.equals("(")) {
+                Node inner = expr();
+                expect(")");
+                return inner;
+            }
+            if (token.length() == 1 && "&|)-".contains(token)) {
+                throw new IllegalArgumentException("Unexpected '" + token + "' in expression");
+            }
+
+            String lower = token.toLowerCase(Locale.ROOT);
+            Operand operand;
+            if ((lower.equals("any") || lower.equals("all")) && "(".equals(peek())) {
+                next();
+                operand = operand(next(), lower.equals("all"));
+                expect(")");
+            } else {
+                operand = operand(token, false);
+            }
+            operands.add(operand);
+            return (days, calendar) -> (BitSet) calendar.apply(operand).clone();
+        }
+
+        private Operand operand(String token, boolean all) {
+            int colon = token.indexOf(':');
+            if (colon < 0) {
+                return new Operand(token.toUpperCase(Locale.ROOT), Kind.BOTH, all);
+            }
+            String code = token.substring(0, colon).toUpperCase(Locale.ROOT);
+            return switch (token.substring(colon + 1).toLowerCase(Locale.ROOT)) {
+                case "school" -> new Operand(code, Kind.SCHOOL, all);
+                case "public" -> new Operand(code, Kind.PUBLIC, all);
+                default -> throw new IllegalArgumentException("Unknown calendar '" + token + "'");
+            };
+        }
+
+        private static boolean isCodeChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '_';
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.holidayanalyzer.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable daily holiday load of every country and region over a fixed horizon.
+ *
+ * Arrays are indexed by day offset from {@link #startDate()} and hold school plus public
+ * holiday population, with the same semantics as {@link VacationLoadEngine}. A region's
+ * series counts its own population on its school holidays, its regional public holidays
+ * and the national public holidays of its country.
+ */
+public record DailyLoadSnapshot(
+        LocalDate startDate,
+        int days,
+        Map<String, long[]> countryLoads,
+        Map<String, long[]> regionLoads,
+        Map<String, Long> countryPopulations,
+        Map<String, Long> regionPopulations,
+        Map<String, List<String>> regionsByCountry,
+        Map<String, String> regionCountries) {
+
+    public boolean covers(LocalDate date) {
+        long offset = offset(date);
+        return offset >= 0 && offset < days;
+    }
+
+    public int offset(LocalDate date) {
+        return (int) (date.toEpochDay() - startDate.toEpochDay());
+    }
+}
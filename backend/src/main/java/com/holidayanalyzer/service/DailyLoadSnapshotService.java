@@ -0,0 +1,159 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Maintains the {@link DailyLoadSnapshot} for the analysis endpoints.
+ *
+ * The snapshot starts today and spans {@code analysis.snapshot.horizon-days}. It is built
+ * from four queries, kept until data changes, the day rolls over or the TTL expires, and
+ * is shared by all requests. Builds are kept only if {@link DataVersion} did not move meanwhile.
+ */
+@Service
+public class DailyLoadSnapshotService {
+
+    private final CountryRepository countryRepository;
+    private final RegionRepository regionRepository;
+    private final SchoolHolidayRepository schoolHolidayRepository;
+    private final HolidayRepository holidayRepository;
+    private final DataVersion dataVersion;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int horizonDays;
+    private final long ttlNanos;
+
+    private volatile DailyLoadSnapshot snapshot;
+    private volatile long builtAt;
+
+    public DailyLoadSnapshotService(CountryRepository countryRepository,
+                                    RegionRepository regionRepository,
+                                    SchoolHolidayRepository schoolHolidayRepository,
+                                    HolidayRepository holidayRepository,
+                                    DataVersion dataVersion,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${analysis.snapshot.horizon-days:731}") int horizonDays,
+                                    @Value("${vacation-load.cache.ttl:PT10M}") Duration ttl) {
+        this.countryRepository = countryRepository;
+        this.regionRepository = regionRepository;
+        this.schoolHolidayRepository = schoolHolidayRepository;
+        this.holidayRepository = holidayRepository;
+        this.dataVersion = dataVersion;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.horizonDays = horizonDays;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public DailyLoadSnapshot getSnapshot() {
+        DailyLoadSnapshot current = snapshot;
+        if (current == null || !current.startDate().equals(LocalDate.now())
+                || System.nanoTime() - builtAt > ttlNanos) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || !current.startDate().equals(LocalDate.now())
+                        || System.nanoTime() - builtAt > ttlNanos) {
+                    long version = dataVersion.current();
+                    LocalDate today = LocalDate.now();
+                    current = readOnlyTransaction.execute(status -> build(today));
+                    snapshot = current;
+                    builtAt = System.nanoTime();
+                    if (dataVersion.current() != version) snapshot = null;
+                }
+            }
+        }
+        return current;
+    }
+
+    @EventListener
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        snapshot = null;
+    }
+
+    private DailyLoadSnapshot build(LocalDate startDate) {
+        LocalDate endDate = startDate.plusDays(horizonDays - 1L);
+        int days = horizonDays;
+
+        Map<String, long[]> countryDiff = new HashMap<>();
+        Map<String, long[]> regionDiff = new HashMap<>();
+        Map<String, Long> countryPopulations = new HashMap<>();
+        Map<String, Long> regionPopulations = new HashMap<>();
+        Map<String, List<String>> regionsByCountry = new HashMap<>();
+        Map<String, String> regionCountries = new HashMap<>();
+
+        for (Country country : countryRepository.findAll()) {
+            countryDiff.put(country.getCode(), new long[days + 1]);
+            countryPopulations.put(country.getCode(), country.getPopulation() != null ? country.getPopulation() : 0L);
+            regionsByCountry.put(country.getCode(), new ArrayList<>());
+        }
+        for (Region region : regionRepository.findAllWithCountry()) {
+            regionDiff.put(region.getCode(), new long[days + 1]);
+            regionPopulations.put(region.getCode(), region.getPopulation() != null ? region.getPopulation() : 0L);
+            regionsByCountry.computeIfAbsent(region.getCountry().getCode(), k -> new ArrayList<>()).add(region.getCode());
+            regionCountries.put(region.getCode(), region.getCountry().getCode());
+        }
+
+        for (SchoolHoliday sh : schoolHolidayRepository.findByDateRangeWithRegion(startDate, endDate)) {
+            Region region = sh.getRegion();
+            if (region.getPopulation() == null) continue;
+            long from = Math.max(sh.getStartDate().toEpochDay() - startDate.toEpochDay(), 0);
+            long to = Math.min(sh.getEndDate().toEpochDay() - startDate.toEpochDay(), days - 1);
+            if (from > to) continue;
+            addRange(regionDiff.get(region.getCode()), (int) from, (int) to, region.getPopulation());
+            addRange(countryDiff.get(region.getCountry().getCode()), (int) from, (int) to, region.getPopulation());
+        }
+
+        for (Holiday h : holidayRepository.findByDateRangeWithRegion(startDate, endDate)) {
+            int offset = (int) (h.getDate().toEpochDay() - startDate.toEpochDay());
+            String countryCode = h.getCountry().getCode();
+            if (h.getRegion() != null && h.getRegion().getPopulation() != null) {
+                addRange(regionDiff.get(h.getRegion().getCode()), offset, offset, h.getRegion().getPopulation());
+                addRange(countryDiff.get(countryCode), offset, offset, h.getRegion().getPopulation());
+            } else if (h.getCountry().getPopulation() != null) {
+                addRange(countryDiff.get(countryCode), offset, offset, h.getCountry().getPopulation());
+                for (String regionCode : regionsByCountry.getOrDefault(countryCode, List.of())) {
+                    addRange(regionDiff.get(regionCode), offset, offset, regionPopulations.get(regionCode));
+                }
+            }
+        }
+
+        return new DailyLoadSnapshot(startDate, days,
+                prefixSums(countryDiff, days), prefixSums(regionDiff, days),
+                Map.copyOf(countryPopulations), Map.copyOf(regionPopulations),
+                Map.copyOf(regionsByCountry), Map.copyOf(regionCountries));
+    }
+
+    private static void addRange(long[] diff, int from, int to, long value) {
+        if (diff == null) return;
+        diff[from] += value;
+        diff[to + 1] -= value;
+    }
+
+    private static Map<String, long[]> prefixSums(Map<String, long[]> diffs, int days) {
+        Map<String, long[]> result = new HashMap<>();
+        diffs.forEach((code, diff) -> {
+            long[] series = new long[days];
+            long running = 0;
+            for (int i = 0; i < days; i++) {
+                running += diff[i];
+                series[i] = running;
+            }
+            result.put(code, series);
+        });
+        return Map.copyOf(result);
+    }
+}
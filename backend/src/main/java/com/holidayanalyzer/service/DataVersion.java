@@ -0,0 +1,46 @@
+package com.holidayanalyzer.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing version of the stored holiday data, bumped on every
+ * {@link HolidayDataChangedEvent} (admin writes and imports) and by {@link #beginWrite()}.
+ *
+ * It starts at the startup time in milliseconds, so versions keep increasing across restarts.
+ * Each replica counts only the writes it handled itself; consumers that need to bound
+ * staleness across replicas combine it with a time bucket.
+ *
+ * The in-memory indexes read the version before a build and only keep the result if it is
+ * unchanged afterwards: a build that overlapped a write may have read the data from before it.
+ * This listener runs before all others, so once an index's listener sees an event, no build
+ * that started before the event can still be kept.
+ */
+@Component
+public class DataVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Called by writers before they write, for events that carry exact changes. An index
+     * built at a version below the returned one read its data before the write began, so the
+     * changes can be applied to it without counting them twice.
+     */
+    public long beginWrite() {
+        return version.incrementAndGet();
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
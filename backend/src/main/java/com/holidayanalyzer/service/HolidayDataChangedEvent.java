@@ -0,0 +1,48 @@
+package com.holidayanalyzer.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published after holiday, school holiday, country or region data was written.
+ *
+ * @param countryCode  affected country
+ * @param year         affected (school) year, or null when all years of the country may have changed
+ * @param changes      exact population changes when the writer knows them; empty when listeners
+ *                     have to reload the affected data themselves
+ * @param writeVersion {@link DataVersion#beginWrite()} taken before the write when there are
+ *                     changes; indexes built at this version or later may already contain them
+ */
+public record HolidayDataChangedEvent(String countryCode, Integer year, List<LoadChange> changes, long writeVersion) {
+
+    /**
+     * A school holiday interval or public holiday (startDate == endDate) that was added
+     * (positive population) or removed (negative population).
+     */
+    public record LoadChange(boolean schoolHoliday, LocalDate startDate, LocalDate endDate, long population) {
+    }
+
+    /**
+     * Population a public holiday affects: its region's, or its country's for national
+     * holidays and regions without a population. Index builds and the events that update
+     * them incrementally both use this, so an update leaves an index as a rebuild would.
+     */
+    public static long publicHolidayPopulation(Long regionPopulation, Long countryPopulation) {
+        if (regionPopulation != null) return regionPopulation;
+        return countryPopulation != null ? countryPopulation : 0L;
+    }
+
+    public static HolidayDataChangedEvent country(String countryCode) {
+        return new HolidayDataChangedEvent(countryCode, null, List.of(), 0);
+    }
+
+    public static HolidayDataChangedEvent year(String countryCode, int year) {
+        return new HolidayDataChangedEvent(countryCode, year, List.of(), 0);
+    }
+
+    public static HolidayDataChangedEvent publicHoliday(String countryCode, LocalDate date, long population,
+                                                        long writeVersion) {
+        return new HolidayDataChangedEvent(countryCode, date.getYear(),
+                List.of(new LoadChange(false, date, date, population)), writeVersion);
+    }
+}
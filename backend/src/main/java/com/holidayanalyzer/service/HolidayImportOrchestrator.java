@@ -0,0 +1,162 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.HolidayImportResult;
+import com.holidayanalyzer.dto.HolidayImportSummary;
+import com.holidayanalyzer.dto.HolidayImportSummary.Failure;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.repository.CountryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Imports public holidays for many (country, year) pairs at once.
+ *
+ * Every pair runs on its own virtual thread and, through {@link HolidayImportService}, in its
+ * own transaction, so one failing country neither blocks nor rolls back the others. A semaphore
+ * caps how many pairs are in flight, which bounds both the load on Nager.Date and the
+ * connections taken from the pool. The whole run takes roughly as long as its slowest pairs
+ * instead of the sum of all of them.
+ */
+@Service
+public class HolidayImportOrchestrator {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayImportOrchestrator.class);
+
+    private final HolidayImportService holidayImportService;
+    private final CountryRepository countryRepository;
+    private final Semaphore permits;
+
+    public HolidayImportOrchestrator(HolidayImportService holidayImportService,
+                                     CountryRepository countryRepository,
+                                     @Value("${holiday-import.parallelism:8}") int parallelism) {
+        this.holidayImportService = holidayImportService;
+        this.countryRepository = countryRepository;
+        this.permits = new Semaphore(parallelism);
+    }
+
+    /**
+     * @param countryCodes countries to import; all stored countries when null or empty
+     * @param years        years to import for every country
+     */
+    public HolidayImportSummary importAll(List<String> countryCodes, List<Integer> years) {
+        List<ImportUnit> units = new ArrayList<>();
+        for (String countryCode : resolveCountries(countryCodes)) {
+            for (int year : years) {
+                units.add(new ImportUnit(countryCode, year));
+            }
+        }
+        return importUnits(units, ImportListener.NONE, () -> false);
+    }
+
+    /**
+     * @return the given country codes, or all stored countries when null or empty
+     */
+    public List<String> resolveCountries(List<String> countryCodes) {
+        return countryCodes == null || countryCodes.isEmpty()
+                ? countryRepository.findAll().stream().map(Country::getCode).toList()
+                : countryCodes;
+    }
+
+    /**
+     * Imports the units concurrently. The listener is called on the worker thread as soon as a
+     * unit has finished. Units that have not started once {@code cancelled} returns true are
+     * skipped and appear in neither the results nor the failures of the summary.
+     */
+    public HolidayImportSummary importUnits(List<ImportUnit> units, ImportListener listener, BooleanSupplier cancelled) {
+        long started = System.nanoTime();
+        List<Task> tasks = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ImportUnit unit : units) {
+                tasks.add(new Task(unit, executor.submit(() -> importOne(unit, listener, cancelled))));
+            }
+        }
+
+        List<HolidayImportResult> results = new ArrayList<>();
+        List<Failure> failures = new ArrayList<>();
+        for (Task task : tasks) {
+            ImportUnit unit = task.unit();
+            try {
+                results.add(task.future().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while importing public holidays", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof CancellationException || cause instanceof InterruptedException) continue;
+                log.warn("Import failed for country={} year={}: {}", unit.countryCode(), unit.year(), cause.getMessage());
+                failures.add(new Failure(unit.countryCode(), unit.year(), describe(cause)));
+            }
+        }
+
+        HolidayImportSummary summary = new HolidayImportSummary(results, failures,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        log.info("Imported {} country-years in {} ms: {} inserted, {} updated, {} deleted, {} failed",
+                units.size(), summary.getDurationMillis(), summary.getInserted(), summary.getUpdated(),
+                summary.getDeleted(), summary.getFailed());
+        return summary;
+    }
+
+    private HolidayImportResult importOne(ImportUnit unit, ImportListener listener, BooleanSupplier cancelled)
+            throws InterruptedException {
+        permits.acquire();
+        try {
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            HolidayImportResult result;
+            try {
+                result = holidayImportService.importPublicHolidays(unit.countryCode(), unit.year());
+            } catch (RuntimeException e) {
+                listener.failed(unit, describe(e));
+                throw e;
+            }
+            listener.succeeded(unit, result);
+            return result;
+        } finally {
+            permits.release();
+        }
+    }
+
+    static String describe(Throwable error) {
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+    }
+
+    public record ImportUnit(String countryCode, int year) {
+    }
+
+    /**
+     * Receives the outcome of each unit as it finishes.
+     */
+    public interface ImportListener {
+
+        ImportListener NONE = new ImportListener() {
+            @Override
+            public void succeeded(ImportUnit unit, HolidayImportResult result) {
+            }
+
+            @Override
+            public void failed(ImportUnit unit, String error) {
+            }
+        };
+
+        void succeeded(ImportUnit unit, HolidayImportResult result);
+
+        void failed(ImportUnit unit, String error);
+    }
+
+    private record Task(ImportUnit unit, Future<HolidayImportResult> future) {
+    }
+}
@@ -1,19 +1,31 @@
 package com.holidayanalyzer.service;
 
+import com.holidayanalyzer.dto.HolidayImportResult;
 import com.holidayanalyzer.model.Country;
 import com.holidayanalyzer.model.Holiday;
 import com.holidayanalyzer.model.Region;
 import com.holidayanalyzer.repository.CountryRepository;
 import com.holidayanalyzer.repository.HolidayRepository;
 import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.service.HolidayDataChangedEvent.LoadChange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class HolidayImportService {
@@ -25,18 +37,33 @@ public class HolidayImportService {
     private final CountryRepository countryRepository;
     private final HolidayRepository holidayRepository;
     private final RegionRepository regionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final DataVersion dataVersion;
 
     public HolidayImportService(RestTemplate restTemplate,
                                 CountryRepository countryRepository,
                                 HolidayRepository holidayRepository,
-                                RegionRepository regionRepository) {
+                                RegionRepository regionRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                DataVersion dataVersion) {
         this.restTemplate = restTemplate;
         this.countryRepository = countryRepository;
         this.holidayRepository = holidayRepository;
         this.regionRepository = regionRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.dataVersion = dataVersion;
     }
 
-    public List<Holiday> importPublicHolidays(String countryCode, int year) {
+    /**
+     * Brings the stored public holidays of a country-year in line with Nager.Date. Fetched and
+     * stored holidays are matched on their natural key (date, region, English name); only new,
+     * changed and no longer listed holidays are written, with one upsert and one delete
+     * statement. Nothing is written, and no change event published, when both sides agree.
+     */
+    public HolidayImportResult importPublicHolidays(String countryCode, int year) {
         log.info("Importing public holidays from Nager.Date for country={} year={}", countryCode, year);
 
         Country country = countryRepository.findByCode(countryCode)
@@ -51,23 +78,103 @@ public class HolidayImportService {
 
         if (response == null) {
             log.warn("No holidays returned from Nager.Date for country={} year={}", countryCode, year);
-            return List.of();
+            return new HolidayImportResult(countryCode, year, 0, 0, 0, 0, 0);
         }
 
-        // Remove old holidays for that country/year to avoid duplicates
-        List<Holiday> existing = holidayRepository.findByCountryCodeAndYear(countryCode, year);
-        if (!existing.isEmpty()) {
-            holidayRepository.deleteAll(existing);
+        // One lookup for all subdivisions referenced by the response
+        Map<String, Region> regions = regionRepository.findByCodeIn(Arrays.stream(response)
+                .filter(dto -> dto.getCounties() != null)
+                .flatMap(dto -> Arrays.stream(dto.getCounties()))
+                .collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Region::getCode, Function.identity()));
+
+        // Nager.Date occasionally lists the same holiday twice; the first one wins
+        Map<HolidayKey, Holiday> fetched = new LinkedHashMap<>();
+        Arrays.stream(response)
+            .flatMap(dto -> mapToEntities(dto, country, regions).stream())
+            .forEach(h -> fetched.putIfAbsent(HolidayKey.of(h), h));
+
+        long writeVersion = dataVersion.beginWrite();
+        ImportDiff diff = transaction.execute(status -> {
+            ImportDiff d = diff(fetched, holidayRepository.findByCountryCodeAndYear(countryCode, year));
+            if (!d.deleted().isEmpty()) {
+                holidayRepository.deleteAllByIdInBatch(d.deleted().stream().map(Holiday::getId).toList());
+            }
+            holidayRepository.upsertAll(d.upserts());
+            return d;
+        });
+
+        HolidayImportResult result = new HolidayImportResult(countryCode, year, fetched.size(),
+                diff.inserted().size(), diff.updated(), diff.deleted().size(), diff.unchanged());
+        log.info("Imported country={} year={}: {} inserted, {} updated, {} deleted, {} unchanged", countryCode, year,
+                result.getInserted(), result.getUpdated(), result.getDeleted(), result.getUnchanged());
+
+        if (diff.updated() > 0) {
+            // Renamed holidays change labels, not just loads
+            eventPublisher.publishEvent(HolidayDataChangedEvent.year(countryCode, year));
+        } else if (result.getChanged() > 0) {
+            eventPublisher.publishEvent(new HolidayDataChangedEvent(countryCode, year, diff.changes(), writeVersion));
         }
+        return result;
+    }
 
-        List<Holiday> toSave = Arrays.stream(response)
-            .flatMap(dto -> mapToEntities(dto, country).stream())
-            .toList();
+    private static ImportDiff diff(Map<HolidayKey, Holiday> fetched, List<Holiday> existing) {
+        Map<HolidayKey, Holiday> stored = new HashMap<>();
+        List<Holiday> deleted = new ArrayList<>();
+        for (Holiday h : existing) {
+            HolidayKey key = HolidayKey.of(h);
+            if (!fetched.containsKey(key) || stored.putIfAbsent(key, h) != null) {
+                deleted.add(h);
+            }
+        }
+
+        List<Holiday> upserts = new ArrayList<>();
+        List<Holiday> inserted = new ArrayList<>();
+        int unchanged = 0;
+        for (Map.Entry<HolidayKey, Holiday> entry : fetched.entrySet()) {
+            Holiday current = stored.get(entry.getKey());
+            Holiday h = entry.getValue();
+            if (current == null) {
+                inserted.add(h);
+                upserts.add(h);
+            } else if (!Objects.equals(current.getLocalName(), h.getLocalName())
+                    || current.isGlobalHoliday() != h.isGlobalHoliday()
+                    || !Objects.equals(current.getTypes(), h.getTypes())) {
+                upserts.add(h);
+            } else {
+                unchanged++;
+            }
+        }
+
+        // Resolved here, inside the transaction, as stored rows have lazy regions
+        List<LoadChange> changes = new ArrayList<>();
+        inserted.forEach(h -> changes.add(loadChange(h, 1)));
+        deleted.forEach(h -> changes.add(loadChange(h, -1)));
+        return new ImportDiff(upserts, inserted, upserts.size() - inserted.size(), deleted, unchanged, changes);
+    }
+
+    private static LoadChange loadChange(Holiday h, int sign) {
+        long population = HolidayDataChangedEvent.publicHolidayPopulation(
+                h.getRegion() != null ? h.getRegion().getPopulation() : null, h.getCountry().getPopulation());
+        return new LoadChange(false, h.getDate(), h.getDate(), sign * population);
+    }
+
+    /**
+     * Natural key of a public holiday within one country (see the V4 migration). The region
+     * id is read without initializing lazy region proxies.
+     */
+    private record HolidayKey(LocalDate date, Long regionId, String englishName) {
+        static HolidayKey of(Holiday h) {
+            return new HolidayKey(h.getDate(), h.getRegion() != null ? h.getRegion().getId() : null, h.getEnglishName());
+        }
+    }
 
-        return holidayRepository.saveAll(toSave);
+    private record ImportDiff(List<Holiday> upserts, List<Holiday> inserted, int updated,
+                              List<Holiday> deleted, int unchanged, List<LoadChange> changes) {
     }
 
-    private List<Holiday> mapToEntities(NagerPublicHolidayDto dto, Country country) {
+    private List<Holiday> mapToEntities(NagerPublicHolidayDto dto, Country country, Map<String, Region> regions) {
         LocalDate date = LocalDate.parse(dto.getDate());
         int year = date.getYear();
 
@@ -103,8 +210,7 @@ public class HolidayImportService {
                 }
                 holiday.setYear(year);
 
-                // Look up Region entity by code
-                Region region = regionRepository.findByCode(regionCode).orElse(null);
+                Region region = regions.get(regionCode);
                 if (region == null) {
                     log.warn("Region not found for code: {}. Skipping this regional holiday.", regionCode);
                     return null;
@@ -112,7 +218,7 @@ public class HolidayImportService {
                 holiday.setRegion(region);
                 return holiday;
             })
-            .filter(h -> h != null) // Filter out holidays where region wasn't found
+            .filter(Objects::nonNull) // Filter out holidays where region wasn't found
             .toList();
     }
 
@@ -0,0 +1,60 @@
+package com.holidayanalyzer.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared school holiday detail labels ("Region: Holiday"), so each label string is concatenated
+ * once and then shared by every response that contains it instead of being built again on
+ * every request. Engines number the labels of a request themselves; nothing here is indexed.
+ *
+ * Labels of renamed or deleted regions and holidays would stay behind, so the dictionary is
+ * cleared on every {@link HolidayDataChangedEvent}, and once it holds more than
+ * {@value #MAX_LABELS} labels (writes handled by other replicas send no event here).
+ */
+@Component
+public class HolidayLabelDictionary {
+
+    static final int MAX_LABELS = 50_000;
+
+    private final Map<String, Map<String, String>> schoolHolidayLabels = new ConcurrentHashMap<>();
+    // Approximate under concurrent clears; only used for the cap
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * The label "{@code regionName}: {@code holidayName}". Repeated lookups do not allocate.
+     */
+    public String schoolHolidayLabel(String regionName, String holidayName) {
+        Map<String, String> byName = schoolHolidayLabels.get(regionName);
+        if (byName == null) {
+            byName = schoolHolidayLabels.computeIfAbsent(regionName, k -> new ConcurrentHashMap<>());
+        }
+        String label = byName.get(holidayName);
+        if (label == null) {
+            label = byName.computeIfAbsent(holidayName, name -> {
+                size.incrementAndGet();
+                return regionName + ": " + name;
+            });
+            if (size.get() > MAX_LABELS) clear();
+        }
+        return label;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    @EventListener
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        clear();
+    }
+
+    private void clear() {
+        schoolHolidayLabels.clear();
+        size.set(0);
+    }
+}
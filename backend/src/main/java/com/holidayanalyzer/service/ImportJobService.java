@@ -0,0 +1,319 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.HolidayImportResult;
+import com.holidayanalyzer.dto.HolidayImportSummary;
+import com.holidayanalyzer.dto.ImportJobResponse;
+import com.holidayanalyzer.model.ImportJob;
+import com.holidayanalyzer.model.ImportJobUnit;
+import com.holidayanalyzer.repository.ImportJobRepository;
+import com.holidayanalyzer.repository.ImportJobUnitRepository;
+import com.holidayanalyzer.service.HolidayImportOrchestrator.ImportListener;
+import com.holidayanalyzer.service.HolidayImportOrchestrator.ImportUnit;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs public holiday imports as persisted background jobs.
+ *
+ * A job is stored with one PENDING unit per (country, year) and handed to a fixed pool of
+ * workers; each worker runs its job's pending units through {@link HolidayImportOrchestrator}
+ * and records every unit's outcome in its own transaction as soon as it is known.
+ *
+ * Jobs are owned by the instance that claimed them, which keeps refreshing their heartbeat.
+ * The periodic sweep (and the one at startup) claims unfinished jobs that belong to this
+ * instance but are not running here, or whose owner's heartbeat has gone stale, and runs
+ * their remaining units - so a job interrupted by a restart continues where it stopped.
+ * Claims are conditional updates, so only one instance owns a job at a time. An instance that
+ * finds at its sweep that a job was taken over stops starting its units and leaves the job to
+ * the new owner; only the owner marks a job finished.
+ */
+@Service
+public class ImportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportJobService.class);
+
+    private static final List<ImportJob.Status> UNFINISHED = List.of(ImportJob.Status.QUEUED, ImportJob.Status.RUNNING);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ImportJobRepository jobRepository;
+    private final ImportJobUnitRepository unitRepository;
+    private final HolidayImportOrchestrator holidayImportOrchestrator;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final String instanceId;
+    private final Duration staleAfter;
+
+    // Jobs queued or running on this instance, with their cancellation flag
+    private final Map<Long, AtomicBoolean> localJobs = new ConcurrentHashMap<>();
+
+    public ImportJobService(ImportJobRepository jobRepository,
+                            ImportJobUnitRepository unitRepository,
+                            HolidayImportOrchestrator holidayImportOrchestrator,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${holiday-import.jobs.workers:2}") int workerCount,
+                            @Value("${holiday-import.jobs.instance-id:${HOSTNAME:}}") String instanceId,
+                            @Value("${holiday-import.jobs.stale-after:PT2M}") Duration staleAfter) {
+        this.jobRepository = jobRepository;
+        this.unitRepository = unitRepository;
+        this.holidayImportOrchestrator = holidayImportOrchestrator;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.workerCount = workerCount;
+        this.workers = Executors.newFixedThreadPool(workerCount, Thread.ofVirtual().name("import-job-", 0).factory());
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * Stores a job importing the given years for the given countries, or for all stored
+     * countries when {@code countryCodes} is null or empty, and queues it on this instance.
+     */
+    public ImportJobResponse submit(List<String> countryCodes, List<Integer> years) {
+        if (years == null || years.isEmpty()) {
+            throw new IllegalArgumentException("At least one year is required");
+        }
+        Set<String> countries = new LinkedHashSet<>(holidayImportOrchestrator.resolveCountries(countryCodes));
+        Set<Integer> distinctYears = new LinkedHashSet<>(years);
+
+        ImportJobResponse response = transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            ImportJob job = new ImportJob();
+            job.setCreatedAt(now);
+            job.setClaimedBy(instanceId);
+            job.setHeartbeatAt(now);
+            jobRepository.save(job);
+
+            List<ImportJobUnit> units = new ArrayList<>(countries.size() * distinctYears.size());
+            for (String countryCode : countries) {
+                for (int year : distinctYears) {
+                    units.add(new ImportJobUnit(job, countryCode, year));
+                }
+            }
+            unitRepository.saveAll(units);
+            return ImportJobResponse.of(job, units);
+        });
+
+        log.info("Import job {} queued: {} countries x {} years", response.getId(), countries.size(), distinctYears.size());
+        enqueue(response.getId());
+        return response;
+    }
+
+    public Optional<ImportJobResponse> getJob(Long jobId) {
+        return readOnlyTransaction.execute(status -> jobRepository.findById(jobId)
+                .map(job -> ImportJobResponse.of(job, unitRepository.findByJobIdOrderByCountryCodeAscYearAsc(jobId))));
+    }
+
+    /**
+     * Requests cancellation: units already in flight finish, the remaining ones end up
+     * CANCELLED. A job running on another instance stops at that instance's next sweep.
+     */
+    public Optional<ImportJobResponse> cancel(Long jobId) {
+        Optional<ImportJobResponse> response = transaction.execute(status -> jobRepository.findById(jobId).map(job -> {
+            if (!job.getStatus().isFinished()) {
+                job.setCancelRequested(true);
+            }
+            return ImportJobResponse.of(job, unitRepository.findByJobIdOrderByCountryCodeAscYearAsc(jobId));
+        }));
+        AtomicBoolean cancelled = localJobs.get(jobId);
+        if (cancelled != null) {
+            cancelled.set(true);
+        }
+        return response;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        sweep();
+    }
+
+    /**
+     * Refreshes the heartbeat of the jobs held here, stops those another instance has taken
+     * over, picks up cancellations requested through other instances, and claims unfinished
+     * jobs while workers are free.
+     */
+    @Scheduled(fixedDelayString = "${holiday-import.jobs.sweep-interval:PT30S}",
+            initialDelayString = "${holiday-import.jobs.sweep-interval:PT30S}")
+    public synchronized void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> held = Set.copyOf(localJobs.keySet());
+
+        List<Long> claimed = transaction.execute(status -> {
+            if (!held.isEmpty()) {
+                if (jobRepository.heartbeat(held, instanceId, now) < held.size()) {
+                    // Our heartbeat went stale and another instance claimed the job
+                    Set<Long> owned = Set.copyOf(jobRepository.findClaimedBy(held, instanceId));
+                    for (Long jobId : held) {
+                        AtomicBoolean cancelled = localJobs.get(jobId);
+                        if (!owned.contains(jobId) && cancelled != null) {
+                            log.warn("Import job {} was taken over by another instance, stopping it here", jobId);
+                            cancelled.set(true);
+                        }
+                    }
+                }
+                for (Long jobId : jobRepository.findCancelRequested(held)) {
+                    AtomicBoolean cancelled = localJobs.get(jobId);
+                    if (cancelled != null) cancelled.set(true);
+                }
+            }
+
+            List<Long> ids = new ArrayList<>();
+            LocalDateTime staleBefore = now.minus(staleAfter);
+            for (Long jobId : jobRepository.findClaimable(UNFINISHED, instanceId, staleBefore)) {
+                if (localJobs.size() + ids.size() >= workerCount) break;
+                if (!localJobs.containsKey(jobId)
+                        && jobRepository.claim(jobId, UNFINISHED, instanceId, staleBefore, now) == 1) {
+                    ids.add(jobId);
+                }
+            }
+            return ids;
+        });
+
+        for (Long jobId : claimed) {
+            log.info("Resuming import job {}", jobId);
+            enqueue(jobId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupted units stay PENDING and are run again when the job is resumed
+        workers.shutdownNow();
+    }
+
+    private void enqueue(Long jobId) {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        if (localJobs.putIfAbsent(jobId, cancelled) != null) {
+            return;
+        }
+        try {
+            workers.execute(() -> run(jobId, cancelled));
+        } catch (RejectedExecutionException e) {
+            localJobs.remove(jobId);
+            log.warn("Import job {} not started, shutting down", jobId);
+        }
+    }
+
+    private void run(Long jobId, AtomicBoolean cancelled) {
+        try {
+            List<ImportUnit> pending = transaction.execute(status -> start(jobId, cancelled));
+            HolidayImportSummary summary = holidayImportOrchestrator.importUnits(
+                    pending, new UnitRecorder(jobId), cancelled::get);
+            ImportJob.Status outcome = transaction.execute(status -> finish(jobId, cancelled.get()));
+            log.info("Import job {} {}: {} units succeeded, {} failed, {} holidays inserted in {} ms",
+                    jobId, outcome, summary.getSucceeded(), summary.getFailed(), summary.getInserted(),
+                    summary.getDurationMillis());
+        } catch (RuntimeException e) {
+            // The job stays unfinished and is resumed by a later sweep
+            log.error("Import job {} stopped: {}", jobId, e.getMessage(), e);
+        } finally {
+            localJobs.remove(jobId);
+        }
+    }
+
+    private List<ImportUnit> start(Long jobId, AtomicBoolean cancelled) {
+        ImportJob job = jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new IllegalStateException("Import job not found: " + jobId));
+        if (job.getStatus().isFinished() || !instanceId.equals(job.getClaimedBy())) {
+            return List.of();
+        }
+        if (job.isCancelRequested()) {
+            cancelled.set(true);
+        }
+        if (job.getStatus() == ImportJob.Status.QUEUED) {
+            job.setStatus(ImportJob.Status.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+        }
+        return unitRepository.findByJobIdAndStatus(jobId, ImportJobUnit.Status.PENDING).stream()
+                .map(unit -> new ImportUnit(unit.getCountryCode(), unit.getYear()))
+                .toList();
+    }
+
+    private ImportJob.Status finish(Long jobId, boolean cancelled) {
+        ImportJob job = jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new IllegalStateException("Import job not found: " + jobId));
+        if (job.getStatus().isFinished() || !instanceId.equals(job.getClaimedBy())) {
+            // Finished, or left to the instance that took it over
+            return job.getStatus();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (cancelled) {
+            unitRepository.updateStatus(jobId, ImportJobUnit.Status.PENDING, ImportJobUnit.Status.CANCELLED, now);
+            job.setStatus(ImportJob.Status.CANCELLED);
+        } else if (unitRepository.findByJobIdAndStatus(jobId, ImportJobUnit.Status.PENDING).isEmpty()) {
+            job.setStatus(ImportJob.Status.COMPLETED);
+        } else {
+            // Interrupted before all units ran: leave it to be resumed
+            return job.getStatus();
+        }
+        job.setFinishedAt(now);
+        return job.getStatus();
+    }
+
+    /**
+     * Persists each unit's outcome as soon as the orchestrator reports it.
+     */
+    private class UnitRecorder implements ImportListener {
+
+        private final Long jobId;
+
+        UnitRecorder(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void succeeded(ImportUnit unit, HolidayImportResult result) {
+            record(unit, u -> {
+                u.setStatus(ImportJobUnit.Status.SUCCEEDED);
+                u.setInserted(result.getInserted());
+                u.setUpdated(result.getUpdated());
+                u.setDeleted(result.getDeleted());
+                u.setUnchanged(result.getUnchanged());
+                u.setError(null);
+            });
+        }
+
+        @Override
+        public void failed(ImportUnit unit, String error) {
+            record(unit, u -> {
+                u.setStatus(ImportJobUnit.Status.FAILED);
+                u.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            });
+        }
+
+        private void record(ImportUnit unit, Consumer<ImportJobUnit> update) {
+            transaction.executeWithoutResult(status -> unitRepository
+                    .findByJobIdAndCountryCodeAndYear(jobId, unit.countryCode(), unit.year())
+                    .ifPresent(u -> {
+                        update.accept(u);
+                        u.setFinishedAt(LocalDateTime.now());
+                    }));
+        }
+    }
+}
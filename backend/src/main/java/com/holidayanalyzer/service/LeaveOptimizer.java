@@ -0,0 +1,82 @@
+package com.holidayanalyzer.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds the longest breaks that can be bought with a fixed number of leave days.
+ *
+ * Days are offsets into a calendar whose workdays are set in a bitmap; everything else
+ * (weekends, public holidays) is already free. A two-pointer sweep yields, for every end
+ * day, the earliest start such that the window needs at most {@code budget} leave days,
+ * all of them inside the bookable range. Only windows that cannot be extended to the right
+ * without another leave day are candidates, so there are at most as many candidates as days.
+ * The candidates are ranked by score and picked greedily without overlaps.
+ */
+final class LeaveOptimizer {
+
+    private LeaveOptimizer() {
+    }
+
+    /**
+     * @param workdays      set bits are days that need a leave day to be free
+     * @param bookableFrom  first day on which leave may be taken
+     * @param bookableTo    last day on which leave may be taken
+     * @param loadPrefix    prefix sums of the daily crowd load as a fraction of the population
+     *                      (length {@code days + 1}), or {@code null} to ignore crowding
+     * @param crowdPenalty  0 ranks by length only; 1 discounts a break by its full average load
+     */
+    static List<Plan> optimize(BitSet workdays, int days, int bookableFrom, int bookableTo, int budget,
+                               double[] loadPrefix, double crowdPenalty, int count) {
+        List<Plan> candidates = new ArrayList<>();
+        int start = 0;
+        int leave = 0;
+        int blocked = 0;
+        for (int end = 0; end < days; end++) {
+            if (workdays.get(end)) {
+                if (end >= bookableFrom && end <= bookableTo) leave++;
+                else blocked++;
+            }
+            while (leave > budget || blocked > 0) {
+                if (workdays.get(start)) {
+                    if (start >= bookableFrom && start <= bookableTo) leave--;
+                    else blocked--;
+                }
+                start++;
+            }
+            boolean closed = end == days - 1 || workdays.get(end + 1);
+            if (closed && start <= end && (leave > 0 || budget == 0)) {
+                double load = loadPrefix == null ? 0 : (loadPrefix[end + 1] - loadPrefix[start]) / (end - start + 1);
+                double score = (end - start + 1) * (1 - crowdPenalty * Math.min(load, 1.0));
+                candidates.add(new Plan(start, end, leave, load, score));
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(Plan::score).reversed()
+                .thenComparingInt(Plan::leaveDays)
+                .thenComparingInt(Plan::start));
+
+        List<Plan> result = new ArrayList<>(count);
+        BitSet taken = new BitSet(days);
+        for (Plan plan : candidates) {
+            if (result.size() == count) break;
+            int next = taken.nextSetBit(plan.start());
+            if (next >= 0 && next <= plan.end()) continue;
+            taken.set(plan.start(), plan.end() + 1);
+            result.add(plan);
+        }
+        return result;
+    }
+
+    /**
+     * A break from {@code start} to {@code end} (inclusive) costing {@code leaveDays}.
+     */
+    record Plan(int start, int end, int leaveDays, double averageLoad, double score) {
+
+        int length() {
+            return end - start + 1;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.RegionLeavePlans;
+import com.holidayanalyzer.dto.RegionLeavePlans.LeavePlan;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Suggests when to take a number of leave days in a year to get the longest breaks,
+ * per region.
+ *
+ * A region's workday bitmap is the weekdays minus its country's national and its own
+ * regional public holidays (the same rows {@link HolidayRepository#findByCountryCodeYearAndRegion}
+ * returns). All regions are served from a single holiday query, so planning every region
+ * at once stays a few milliseconds of bit operations. The calendar is padded into the
+ * neighbouring years so breaks around New Year are measured in full; leave itself is only
+ * booked within the requested year.
+ */
+@Service
+public class LeavePlanService {
+
+    static final int PADDING_DAYS = 16;
+    static final int MAX_BUDGET = 60;
+    static final int MAX_PLANS = 20;
+
+    private final HolidayRepository holidayRepository;
+    private final RegionRepository regionRepository;
+    private final VacationLoadService vacationLoadService;
+
+    public LeavePlanService(HolidayRepository holidayRepository,
+                            RegionRepository regionRepository,
+                            VacationLoadService vacationLoadService) {
+        this.holidayRepository = holidayRepository;
+        this.regionRepository = regionRepository;
+        this.vacationLoadService = vacationLoadService;
+    }
+
+    /**
+     * @param countries    restricts planning to these countries' regions when not empty
+     * @param regions      restricts planning to these regions when not empty
+     * @param crowdPenalty between 0 and 1; above 0 breaks are discounted by the country's
+     *                     average holiday load over their days
+     */
+    @Transactional(readOnly = true)
+    public List<RegionLeavePlans> plan(int year, int budget, int count, double crowdPenalty,
+                                       List<String> countries, List<String> regions) {
+        if (budget < 0 || budget > MAX_BUDGET) {
+            throw new IllegalArgumentException("budget must be between 0 and " + MAX_BUDGET);
+        }
+        if (count < 1 || count > MAX_PLANS) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_PLANS);
+        }
+        if (crowdPenalty < 0 || crowdPenalty > 1) {
+            throw new IllegalArgumentException("crowdPenalty must be between 0 and 1");
+        }
+
+        LocalDate start = LocalDate.of(year, 1, 1).minusDays(PADDING_DAYS);
+        LocalDate end = LocalDate.of(year, 12, 31).plusDays(PADDING_DAYS);
+        int days = (int) (end.toEpochDay() - start.toEpochDay() + 1);
+        int bookableFrom = PADDING_DAYS;
+        int bookableTo = days - 1 - PADDING_DAYS;
+
+        List<Region> selected = selectRegions(countries, regions);
+
+        BitSet weekdays = new BitSet(days);
+        for (int i = 0; i < days; i++) {
+            DayOfWeek dow = start.plusDays(i).getDayOfWeek();
+            if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY) weekdays.set(i);
+        }
+
+        Map<String, BitSet> nationalHolidays = new HashMap<>();
+        Map<String, BitSet> regionalHolidays = new HashMap<>();
+        for (Holiday h : holidayRepository.findByDateRangeWithRegion(start, end)) {
+            int offset = (int) (h.getDate().toEpochDay() - start.toEpochDay());
+            String key = h.getRegion() == null ? h.getCountryCode() : h.getRegion().getCode();
+            (h.getRegion() == null ? nationalHolidays : regionalHolidays)
+                    .computeIfAbsent(key, k -> new BitSet(days)).set(offset);
+        }
+
+        Map<String, double[]> loadPrefixes = new HashMap<>();
+        List<RegionLeavePlans> result = new ArrayList<>(selected.size());
+        for (Region region : selected) {
+            String countryCode = region.getCountry().getCode();
+            BitSet workdays = (BitSet) weekdays.clone();
+            workdays.andNot(nationalHolidays.getOrDefault(countryCode, new BitSet()));
+            workdays.andNot(regionalHolidays.getOrDefault(region.getCode(), new BitSet()));
+
+            double[] loadPrefix = crowdPenalty > 0
+                    ? loadPrefixes.computeIfAbsent(countryCode, code -> loadPrefix(region, start, end))
+                    : null;
+
+            List<LeavePlan> plans = new ArrayList<>(count);
+            for (LeaveOptimizer.Plan plan : LeaveOptimizer.optimize(workdays, days, bookableFrom, bookableTo,
+                    budget, loadPrefix, crowdPenalty, count)) {
+                plans.add(toLeavePlan(plan, workdays, start));
+            }
+
+            RegionLeavePlans regionPlans = new RegionLeavePlans();
+            regionPlans.setRegionCode(region.getCode());
+            regionPlans.setRegionName(region.getName());
+            regionPlans.setCountryCode(countryCode);
+            regionPlans.setPlans(plans);
+            result.add(regionPlans);
+        }
+        return result;
+    }
+
+    private List<Region> selectRegions(List<String> countries, List<String> regions) {
+        Set<String> countryFilter = new HashSet<>(countries);
+        Set<String> regionFilter = new HashSet<>(regions);
+        List<Region> selected = new ArrayList<>();
+        for (Region region : regionRepository.findAllWithCountry()) {
+            if (!regionFilter.isEmpty() && !regionFilter.remove(region.getCode())) continue;
+            if (!countryFilter.isEmpty() && !countryFilter.contains(region.getCountry().getCode())) continue;
+            selected.add(region);
+        }
+        if (!regionFilter.isEmpty()) {
+            throw new IllegalArgumentException("Region not found: " + String.join(", ", regionFilter));
+        }
+        selected.sort(Comparator.comparing(Region::getCode));
+        return selected;
+    }
+
+    private double[] loadPrefix(Region region, LocalDate start, LocalDate end) {
+        Long population = region.getCountry().getPopulation();
+        VacationLoadEngine engine = vacationLoadService.loadEngine(region.getCountry().getCode(), start, end);
+        long[] school = engine.schoolHolidayPopulation();
+        long[] pub = engine.publicHolidayPopulation();
+        double[] prefix = new double[engine.getDays() + 1];
+        for (int i = 0; i < engine.getDays(); i++) {
+            double load = population != null && population > 0 ? (double) (school[i] + pub[i]) / population : 0;
+            prefix[i + 1] = prefix[i] + load;
+        }
+        return prefix;
+    }
+
+    private static LeavePlan toLeavePlan(LeaveOptimizer.Plan plan, BitSet workdays, LocalDate start) {
+        List<LocalDate> leaveDates = new ArrayList<>(plan.leaveDays());
+        for (int i = workdays.nextSetBit(plan.start()); i >= 0 && i <= plan.end(); i = workdays.nextSetBit(i + 1)) {
+            leaveDates.add(start.plusDays(i));
+        }
+        LeavePlan lp = new LeavePlan();
+        lp.setStartDate(start.plusDays(plan.start()));
+        lp.setEndDate(start.plusDays(plan.end()));
+        lp.setDaysOff(plan.length());
+        lp.setLeaveDays(plan.leaveDays());
+        lp.setLeaveDates(leaveDates);
+        lp.setAverageLoadPercentage(Math.round(plan.averageLoad() * 1000) / 10.0);
+        lp.setScore(Math.round(plan.score() * 100) / 100.0);
+        return lp;
+    }
+}
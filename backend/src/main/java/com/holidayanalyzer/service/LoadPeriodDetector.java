@@ -0,0 +1,118 @@
+package com.holidayanalyzer.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Finds peak and trough periods in a load series in a single linear pass.
+ *
+ * A peak is a maximal run of consecutive values at or above the peak threshold, a trough a
+ * maximal run at or below the trough threshold. Runs shorter than the minimum length are
+ * dropped. Peaks are ranked by their highest value, troughs by their average (lowest
+ * first, longer runs first on ties); bounded heaps keep the best {@code count} of each,
+ * and the result lists are returned in chronological order.
+ */
+public final class LoadPeriodDetector {
+
+    private static final Comparator<Period> PEAK_RANK = Comparator
+            .comparingLong(Period::max).reversed()
+            .thenComparingInt(Period::start);
+
+    private static final Comparator<Period> TROUGH_RANK = Comparator
+            .comparingDouble(Period::average)
+            .thenComparing(Comparator.comparingInt(Period::length).reversed())
+            .thenComparingInt(Period::start);
+
+    private LoadPeriodDetector() {
+    }
+
+    /**
+     * @param peakThreshold   values at or above it belong to a peak
+     * @param troughThreshold values at or below it belong to a trough; negative disables troughs
+     */
+    public static Detection detect(long[] series, long peakThreshold, long troughThreshold, int minLength, int count) {
+        if (minLength < 1 || count < 1) {
+            throw new IllegalArgumentException("minLength and count must be positive");
+        }
+        PriorityQueue<Period> peaks = new PriorityQueue<>(count + 1, PEAK_RANK.reversed());
+        PriorityQueue<Period> troughs = new PriorityQueue<>(count + 1, TROUGH_RANK.reversed());
+
+        int peakStart = -1, troughStart = -1;
+        int peakArgMax = 0, troughArgMin = 0;
+        long peakMax = 0, peakSum = 0, troughMin = 0, troughMax = 0, troughSum = 0;
+
+        for (int i = 0; i <= series.length; i++) {
+            boolean end = i == series.length;
+            long value = end ? 0 : series[i];
+
+            if (!end && value >= peakThreshold) {
+                if (peakStart < 0) {
+                    peakStart = i;
+                    peakMax = value;
+                    peakArgMax = i;
+                    peakSum = 0;
+                } else if (value > peakMax) {
+                    peakMax = value;
+                    peakArgMax = i;
+                }
+                peakSum += value;
+            } else if (peakStart >= 0) {
+                offer(peaks, new Period(peakStart, i - 1, peakArgMax, peakMax, peakSum), minLength, count);
+                peakStart = -1;
+            }
+
+            if (!end && value <= troughThreshold) {
+                if (troughStart < 0) {
+                    troughStart = i;
+                    troughMin = value;
+                    troughArgMin = i;
+                    troughMax = value;
+                    troughSum = 0;
+                } else {
+                    if (value < troughMin) {
+                        troughMin = value;
+                        troughArgMin = i;
+                    }
+                    troughMax = Math.max(troughMax, value);
+                }
+                troughSum += value;
+            } else if (troughStart >= 0) {
+                offer(troughs, new Period(troughStart, i - 1, troughArgMin, troughMax, troughSum), minLength, count);
+                troughStart = -1;
+            }
+        }
+        return new Detection(chronological(peaks), chronological(troughs));
+    }
+
+    private static void offer(PriorityQueue<Period> heap, Period period, int minLength, int count) {
+        if (period.length() < minLength) return;
+        heap.offer(period);
+        if (heap.size() > count) heap.poll();
+    }
+
+    private static List<Period> chronological(PriorityQueue<Period> heap) {
+        List<Period> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingInt(Period::start));
+        return result;
+    }
+
+    public record Detection(List<Period> peaks, List<Period> troughs) {
+    }
+
+    /**
+     * A run of the series, both ends inclusive. {@code extremeIndex} is the first position of
+     * the run's highest value for peaks and of its lowest value for troughs.
+     */
+    public record Period(int start, int end, int extremeIndex, long max, long sum) {
+
+        public int length() {
+            return end - start + 1;
+        }
+
+        public double average() {
+            return (double) sum / length();
+        }
+    }
+}
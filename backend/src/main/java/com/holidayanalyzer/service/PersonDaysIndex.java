@@ -0,0 +1,170 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.HolidayView;
+import com.holidayanalyzer.dto.PersonDaysResponse;
+import com.holidayanalyzer.dto.SchoolHolidayView;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import com.holidayanalyzer.service.HolidayDataChangedEvent.LoadChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-country range-sum index over the daily school and public holiday population, answering
+ * "how many person-days of holiday fall between A and B" in O(log n).
+ *
+ * Each country is indexed lazily over the span of its stored holidays. Admin writes that carry
+ * exact changes are applied as Fenwick range updates to a copy of the index, which then replaces
+ * it, so queries never see an event half-applied; any other change, or a change outside the
+ * indexed span, drops the country so it is rebuilt on the next query. Indexes older than the
+ * TTL are rebuilt as well, which bounds staleness on replicas that did not see the write.
+ *
+ * An index built at or after an event's {@link HolidayDataChangedEvent#writeVersion()} may
+ * already contain the write; it is dropped instead of updated, so the change is not counted twice.
+ */
+@Service
+public class PersonDaysIndex {
+
+    private final SchoolHolidayRepository schoolHolidayRepository;
+    private final HolidayRepository holidayRepository;
+    private final CountryRepository countryRepository;
+    private final DataVersion dataVersion;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long ttlNanos;
+    private final Map<String, CountryIndex> indexes = new ConcurrentHashMap<>();
+
+    public PersonDaysIndex(SchoolHolidayRepository schoolHolidayRepository,
+                           HolidayRepository holidayRepository,
+                           CountryRepository countryRepository,
+                           DataVersion dataVersion,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${vacation-load.cache.ttl:PT10M}") Duration ttl) {
+        this.schoolHolidayRepository = schoolHolidayRepository;
+        this.holidayRepository = holidayRepository;
+        this.countryRepository = countryRepository;
+        this.dataVersion = dataVersion;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public PersonDaysResponse query(String countryCode, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+
+        CountryIndex index = indexes.get(countryCode);
+        if (index == null || System.nanoTime() - index.builtAt() > ttlNanos) {
+            long version = dataVersion.current();
+            CountryIndex built = readOnlyTransaction.execute(status -> build(countryCode, version));
+            indexes.compute(countryCode, (code, cached) -> dataVersion.current() == version ? built : cached);
+            index = built;
+        }
+
+        long[] sums = index.sums(startDate, endDate);
+
+        PersonDaysResponse response = new PersonDaysResponse();
+        response.setCountryCode(countryCode);
+        response.setStartDate(startDate);
+        response.setEndDate(endDate);
+        response.setSchoolHolidayPersonDays(sums[0]);
+        response.setPublicHolidayPersonDays(sums[1]);
+        response.setTotalPersonDays(sums[0] + sums[1]);
+        return response;
+    }
+
+    @EventListener
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        indexes.computeIfPresent(event.countryCode(), (code, index) ->
+                event.changes().isEmpty() || index.version() >= event.writeVersion() ? null : index.withChanges(event.changes()));
+    }
+
+    private CountryIndex build(String countryCode, long version) {
+        Country country = countryRepository.findByCode(countryCode)
+                .orElseThrow(() -> new IllegalArgumentException("Country not found: " + countryCode));
+        List<SchoolHolidayView> schoolHolidays = schoolHolidayRepository.findViewsByCountryCode(countryCode);
+        List<HolidayView> holidays = holidayRepository.findViewsByCountryCode(countryCode);
+
+        LocalDate min = null;
+        LocalDate max = null;
+        for (SchoolHolidayView sh : schoolHolidays) {
+            if (min == null || sh.getStartDate().isBefore(min)) min = sh.getStartDate();
+            if (max == null || sh.getEndDate().isAfter(max)) max = sh.getEndDate();
+        }
+        for (HolidayView h : holidays) {
+            if (h.getDate() == null) continue;
+            if (min == null || h.getDate().isBefore(min)) min = h.getDate();
+            if (max == null || h.getDate().isAfter(max)) max = h.getDate();
+        }
+        if (min == null) {
+            return new CountryIndex(0, new RangeFenwickTree(0), new RangeFenwickTree(0), version, System.nanoTime());
+        }
+
+        // Whole years, so admin additions within the stored years stay incremental
+        LocalDate from = min.withDayOfYear(1);
+        LocalDate to = max.withMonth(12).withDayOfMonth(31);
+        int days = (int) (to.toEpochDay() - from.toEpochDay() + 1);
+        CountryIndex index = new CountryIndex(from.toEpochDay(), new RangeFenwickTree(days), new RangeFenwickTree(days),
+                version, System.nanoTime());
+
+        for (SchoolHolidayView sh : schoolHolidays) {
+            if (sh.getRegion().getPopulation() == null) continue;
+            index.add(new LoadChange(true, sh.getStartDate(), sh.getEndDate(), sh.getRegion().getPopulation()));
+        }
+        for (HolidayView h : holidays) {
+            if (h.getDate() == null) continue;
+            long population = HolidayDataChangedEvent.publicHolidayPopulation(
+                    h.getRegion() != null ? h.getRegion().getPopulation() : null, country.getPopulation());
+            if (population == 0) continue;
+            index.add(new LoadChange(false, h.getDate(), h.getDate(), population));
+        }
+        return index;
+    }
+
+    /**
+     * Not modified once published: events are applied to a copy.
+     *
+     * @param version {@link DataVersion} the data was read at
+     */
+    private record CountryIndex(long startEpochDay, RangeFenwickTree school, RangeFenwickTree pub,
+                                long version, long builtAt) {
+
+        /** A copy with the changes applied, or null if one lies (partly) outside the indexed span. */
+        CountryIndex withChanges(List<LoadChange> changes) {
+            CountryIndex copy = new CountryIndex(startEpochDay, new RangeFenwickTree(school), new RangeFenwickTree(pub),
+                    version, builtAt);
+            for (LoadChange change : changes) {
+                if (!copy.add(change)) return null;
+            }
+            return copy;
+        }
+
+        /** Only while building or copying. Returns false if the change lies (partly) outside the indexed span. */
+        boolean add(LoadChange change) {
+            long from = change.startDate().toEpochDay() - startEpochDay;
+            long to = change.endDate().toEpochDay() - startEpochDay;
+            if (to < from) return true;
+            if (from < 0 || to >= school.size()) return false;
+            (change.schoolHoliday() ? school : pub).rangeAdd((int) from, (int) to, change.population());
+            return true;
+        }
+
+        long[] sums(LocalDate startDate, LocalDate endDate) {
+            long from = Math.max(startDate.toEpochDay() - startEpochDay, 0);
+            long to = Math.min(endDate.toEpochDay() - startEpochDay, school.size() - 1);
+            if (from > to) return new long[2];
+            return new long[]{school.rangeSum((int) from, (int) to), pub.rangeSum((int) from, (int) to)};
+        }
+    }
+}
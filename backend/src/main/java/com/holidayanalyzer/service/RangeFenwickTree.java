@@ -0,0 +1,58 @@
+package com.holidayanalyzer.service;
+
+/**
+ * Fenwick tree pair supporting range additions and range sums in O(log n).
+ *
+ * Adding v to [l, r] is stored as two point updates on each tree; the prefix sum up to i
+ * is {@code sum(b1, i) * (i + 1) - sum(b2, i)}.
+ */
+class RangeFenwickTree {
+
+    private final long[] b1;
+    private final long[] b2;
+
+    RangeFenwickTree(int size) {
+        this.b1 = new long[size + 1];
+        this.b2 = new long[size + 1];
+    }
+
+    RangeFenwickTree(RangeFenwickTree other) {
+        this.b1 = other.b1.clone();
+        this.b2 = other.b2.clone();
+    }
+
+    int size() {
+        return b1.length - 1;
+    }
+
+    /** Adds value to every position in [from, to] (inclusive, 0-based). */
+    void rangeAdd(int from, int to, long value) {
+        add(b1, from, value);
+        add(b2, from, value * from);
+        add(b1, to + 1, -value);
+        add(b2, to + 1, -value * (to + 1));
+    }
+
+    /** Sum over [from, to] (inclusive, 0-based). */
+    long rangeSum(int from, int to) {
+        return prefixSum(to) - (from > 0 ? prefixSum(from - 1) : 0);
+    }
+
+    private long prefixSum(int index) {
+        return sum(b1, index) * (index + 1) - sum(b2, index);
+    }
+
+    private void add(long[] tree, int index, long value) {
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += value;
+        }
+    }
+
+    private long sum(long[] tree, int index) {
+        long result = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            result += tree[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,239 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.CalendarQueryResponse;
+import com.holidayanalyzer.dto.CalendarQueryResponse.DateRange;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import com.holidayanalyzer.service.CalendarExpression.Kind;
+import com.holidayanalyzer.service.CalendarExpression.Operand;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-region holiday calendars as bitmaps, one bit per day, and a set-expression query over them.
+ *
+ * Each country is built lazily from its stored holidays: per region one {@link BitSet} of
+ * school holiday days and one of public holidays (national plus the region's own), indexed by
+ * day offset from January 1 of the country's first stored year, i.e. about six words per
+ * region and year. Overlap and coverage questions such as "days when both DE-NW and NL are
+ * off" then reduce to word-wise AND/OR and popcounts.
+ *
+ * Admin writes drop the affected country through {@link HolidayDataChangedEvent}; a bitmap
+ * cannot subtract one interval that may overlap another, so it is rebuilt on the next query.
+ * Queries on built countries run without a transaction; builds open their own.
+ */
+@Service
+public class RegionCalendarIndex {
+
+    static final int MAX_RANGE_DAYS = 3660;
+
+    private final SchoolHolidayRepository schoolHolidayRepository;
+    private final HolidayRepository holidayRepository;
+    private final RegionRepository regionRepository;
+    private final CountryRepository countryRepository;
+    private final DataVersion dataVersion;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long ttlNanos;
+    private final Map<String, CountryCalendars> calendars = new ConcurrentHashMap<>();
+
+    public RegionCalendarIndex(SchoolHolidayRepository schoolHolidayRepository,
+                               HolidayRepository holidayRepository,
+                               RegionRepository regionRepository,
+                               CountryRepository countryRepository,
+                               DataVersion dataVersion,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${vacation-load.cache.ttl:PT10M}") Duration ttl) {
+        this.schoolHolidayRepository = schoolHolidayRepository;
+        this.holidayRepository = holidayRepository;
+        this.regionRepository = regionRepository;
+        this.countryRepository = countryRepository;
+        this.dataVersion = dataVersion;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Evaluates a {@link CalendarExpression} over the range. A region code stands for the days
+     * that region is off (school or public holiday), a country code for the days on which at
+     * least one of its regions is off, {@code all(CODE)} for the days all of them are.
+     */
+    public CalendarQueryResponse query(String expression, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        int days = (int) (endDate.toEpochDay() - startDate.toEpochDay() + 1);
+        if (days > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        CalendarExpression parsed = CalendarExpression.parse(expression);
+        Map<Operand, BitSet> resolved = new HashMap<>();
+        for (Operand operand : parsed.operands()) {
+            resolved.computeIfAbsent(operand, o -> resolve(o, startDate, days));
+        }
+        BitSet result = parsed.evaluate(days, resolved::get);
+
+        List<DateRange> periods = new ArrayList<>();
+        for (int from = result.nextSetBit(0); from >= 0; from = result.nextSetBit(from)) {
+            int to = result.nextClearBit(from);
+            periods.add(new DateRange(startDate.plusDays(from), startDate.plusDays(to - 1L)));
+            from = to;
+        }
+
+        CalendarQueryResponse response = new CalendarQueryResponse();
+        response.setExpression(expression);
+        response.setStartDate(startDate);
+        response.setEndDate(endDate);
+        response.setMatchingDays(result.cardinality());
+        response.setPeriods(periods);
+        return response;
+    }
+
+    @EventListener
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        calendars.remove(event.countryCode());
+    }
+
+    private BitSet resolve(Operand operand, LocalDate startDate, int days) {
+        String code = operand.code();
+        if (!operand.all()) {
+            String countryCode = regionCountry(code);
+            if (countryCode != null) {
+                return countryCalendars(countryCode).slice(code, operand.kind(), startDate, days);
+            }
+        }
+
+        CountryCalendars country = countryCalendars(code);
+        BitSet result = new BitSet(days);
+        if (country.regions().isEmpty()) {
+            // Countries without regions only have national public holidays
+            if (operand.kind() != Kind.SCHOOL) result.or(country.nationalSlice(startDate, days));
+            return result;
+        }
+        boolean first = true;
+        for (String regionCode : country.regions()) {
+            BitSet slice = country.slice(regionCode, operand.kind(), startDate, days);
+            if (operand.all() && !first) result.and(slice);
+            else result.or(slice);
+            first = false;
+        }
+        return result;
+    }
+
+    /**
+     * The country of a region code, or {@code null} if it is not a region. ISO 3166-2 codes
+     * carry their country as prefix, which saves the lookup for already built countries.
+     */
+    private String regionCountry(String code) {
+        int dash = code.indexOf('-');
+        if (dash > 0) {
+            CountryCalendars country = calendars.get(code.substring(0, dash));
+            if (country != null && country.regions().contains(code)) return code.substring(0, dash);
+        }
+        return readOnlyTransaction.execute(status ->
+                regionRepository.findByCode(code).map(r -> r.getCountry().getCode()).orElse(null));
+    }
+
+    private CountryCalendars countryCalendars(String countryCode) {
+        CountryCalendars current = calendars.get(countryCode);
+        if (current == null || System.nanoTime() - current.builtAt() > ttlNanos) {
+            long version = dataVersion.current();
+            CountryCalendars built = readOnlyTransaction.execute(status -> build(countryCode));
+            calendars.compute(countryCode, (code, cached) -> dataVersion.current() == version ? built : cached);
+            current = built;
+        }
+        return current;
+    }
+
+    private CountryCalendars build(String countryCode) {
+        if (countryRepository.findByCode(countryCode).isEmpty()) {
+            throw new IllegalArgumentException("Unknown region or country: " + countryCode);
+        }
+        List<SchoolHoliday> schoolHolidays = schoolHolidayRepository.findByCountryCodeWithRegion(countryCode);
+        List<Holiday> holidays = holidayRepository.findByCountryCodeWithRegion(countryCode);
+
+        int firstYear = Integer.MAX_VALUE;
+        for (SchoolHoliday sh : schoolHolidays) firstYear = Math.min(firstYear, sh.getStartDate().getYear());
+        for (Holiday h : holidays) firstYear = Math.min(firstYear, h.getDate().getYear());
+        LocalDate base = LocalDate.of(firstYear == Integer.MAX_VALUE ? 2000 : firstYear, 1, 1);
+        long baseEpochDay = base.toEpochDay();
+
+        List<String> regions = new ArrayList<>();
+        Map<String, BitSet> school = new HashMap<>();
+        Map<String, BitSet> regional = new HashMap<>();
+        for (Region region : regionRepository.findByCountryCode(countryCode)) {
+            regions.add(region.getCode());
+            school.put(region.getCode(), new BitSet());
+            regional.put(region.getCode(), new BitSet());
+        }
+        BitSet national = new BitSet();
+
+        for (SchoolHoliday sh : schoolHolidays) {
+            BitSet bits = school.get(sh.getRegion().getCode());
+            // Rows with the end before the start hold no days
+            if (bits == null || sh.getEndDate().isBefore(sh.getStartDate())) continue;
+            bits.set((int) (sh.getStartDate().toEpochDay() - baseEpochDay), (int) (sh.getEndDate().toEpochDay() - baseEpochDay) + 1);
+        }
+        for (Holiday h : holidays) {
+            int offset = (int) (h.getDate().toEpochDay() - baseEpochDay);
+            if (h.getRegion() == null) {
+                national.set(offset);
+            } else {
+                BitSet bits = regional.get(h.getRegion().getCode());
+                if (bits != null) bits.set(offset);
+            }
+        }
+
+        // Fold the national holidays into every region's public calendar
+        for (BitSet bits : regional.values()) bits.or(national);
+
+        Collections.sort(regions);
+        return new CountryCalendars(base, List.copyOf(regions), school, regional, national, System.nanoTime());
+    }
+
+    private record CountryCalendars(LocalDate base, List<String> regions, Map<String, BitSet> school,
+                                    Map<String, BitSet> publicHolidays, BitSet national, long builtAt) {
+
+        BitSet slice(String regionCode, Kind kind, LocalDate startDate, int days) {
+            BitSet result = new BitSet(days);
+            if (kind != Kind.PUBLIC) result.or(slice(school.get(regionCode), startDate, days));
+            if (kind != Kind.SCHOOL) result.or(slice(publicHolidays.get(regionCode), startDate, days));
+            return result;
+        }
+
+        BitSet nationalSlice(LocalDate startDate, int days) {
+            return slice(national, startDate, days);
+        }
+
+        /**
+         * Copies the bits of the range into a new set indexed from the range start. Days before
+         * the base are never set, so the range is clipped there and shifted accordingly.
+         */
+        private BitSet slice(BitSet bits, LocalDate startDate, int days) {
+            long from = startDate.toEpochDay() - base.toEpochDay();
+            long to = from + days;
+            if (to <= 0) return new BitSet(days);
+            if (from >= 0) return bits.get((int) from, (int) to);
+
+            BitSet clipped = bits.get(0, (int) to);
+            BitSet result = new BitSet(days);
+            int shift = (int) -from;
+            for (int i = clipped.nextSetBit(0); i >= 0; i = clipped.nextSetBit(i + 1)) result.set(i + shift);
+            return result;
+        }
+    }
+}
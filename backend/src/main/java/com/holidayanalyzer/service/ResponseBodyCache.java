@@ -0,0 +1,67 @@
+package com.holidayanalyzer.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final JSON bytes of hot reference-data responses, plus a gzip variant, so repeated requests
+ * are answered without querying or serializing anything.
+ *
+ * The body is serialized with the application's {@link ObjectMapper} in the request that misses,
+ * so it is byte-for-byte what the controller would have returned. All entries are dropped on
+ * {@link HolidayDataChangedEvent} and expire after the vacation-load TTL.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedBody> cache;
+
+    public ResponseBodyCache(ObjectMapper objectMapper,
+                             @Value("${vacation-load.cache.ttl:PT10M}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(256)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public CachedBody get(String key, Supplier<?> loader) {
+        return cache.get(key, k -> serialize(loader.get()));
+    }
+
+    @EventListener
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private CachedBody serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+                gzip.write(json);
+            }
+            return new CachedBody(json, gzipped.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record CachedBody(byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.UpcomingHoliday;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * In-memory index of the public and school holidays starting within the next
+ * {@link #MAX_DAYS} days, across all countries.
+ *
+ * Regional public holidays are stored as one row per region; they are grouped into one
+ * entry per (country, date, name) here, as are school holidays sharing country, name and
+ * start date. Each entry carries the population it affects, so a request for the next N
+ * days is a {@link NavigableMap} range scan plus filters and never touches the database.
+ *
+ * The index is built from three queries on first use and dropped on
+ * {@link HolidayDataChangedEvent}, when the day rolls over or after the TTL. Entries are
+ * immutable; every call gets its own {@link UpcomingHoliday}s.
+ */
+@Service
+public class UpcomingHolidayIndex {
+
+    static final int MAX_DAYS = 366;
+
+    private final HolidayRepository holidayRepository;
+    private final SchoolHolidayRepository schoolHolidayRepository;
+    private final RegionRepository regionRepository;
+    private final DataVersion dataVersion;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long ttlNanos;
+
+    private volatile Index index;
+
+    public UpcomingHolidayIndex(HolidayRepository holidayRepository,
+                                SchoolHolidayRepository schoolHolidayRepository,
+                                RegionRepository regionRepository,
+                                DataVersion dataVersion,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${vacation-load.cache.ttl:PT10M}") Duration ttl) {
+        this.holidayRepository = holidayRepository;
+        this.schoolHolidayRepository = schoolHolidayRepository;
+        this.regionRepository = regionRepository;
+        this.dataVersion = dataVersion;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Holidays starting within the next {@code days} days (today included), ordered by date
+     * and then by affected population, largest first.
+     *
+     * @param countries restricts the result to these countries when not empty
+     * @param regions   restricts the result to holidays affecting these regions when not
+     *                  empty; national holidays of a selected region's country are kept
+     */
+    public List<UpcomingHoliday> findUpcoming(int days, List<String> countries, List<String> regions) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_DAYS);
+        }
+        LocalDate today = LocalDate.now();
+        Index current = getIndex(today);
+
+        Set<String> countryFilter = new HashSet<>(countries);
+        Set<String> regionFilter = new HashSet<>(regions);
+        Set<String> regionCountries = new HashSet<>();
+        for (String region : regions) {
+            String country = current.regionCountries().get(region);
+            if (country == null) throw new IllegalArgumentException("Region not found: " + region);
+            regionCountries.add(country);
+        }
+
+        List<UpcomingHoliday> result = new ArrayList<>();
+        for (List<Entry> onDate : current.byDate().subMap(today, true, today.plusDays(days - 1L), true).values()) {
+            for (Entry entry : onDate) {
+                if (!countryFilter.isEmpty() && !countryFilter.contains(entry.countryCode())) continue;
+                if (!regionFilter.isEmpty() && !entry.affectsRegion(regionFilter, regionCountries)) continue;
+                result.add(entry.toUpcomingHoliday());
+            }
+        }
+        return result;
+    }
+
+    @EventListener
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        index = null;
+    }
+
+    private Index getIndex(LocalDate today) {
+        Index current = index;
+        if (!isValid(current, today)) {
+            synchronized (this) {
+                current = index;
+                if (!isValid(current, today)) {
+                    long version = dataVersion.current();
+                    current = readOnlyTransaction.execute(status -> build(today));
+                    index = current;
+                    if (dataVersion.current() != version) index = null;
+                }
+            }
+        }
+        return current;
+    }
+
+    private boolean isValid(Index current, LocalDate today) {
+        return current != null && current.startDate().equals(today) && System.nanoTime() - current.builtAt() <= ttlNanos;
+    }
+
+    private Index build(LocalDate today) {
+        LocalDate endDate = today.plusDays(MAX_DAYS - 1L);
+        Map<String, String> regionCountries = new HashMap<>();
+        for (Region region : regionRepository.findAllWithCountry()) {
+            regionCountries.put(region.getCode(), region.getCountry().getCode());
+        }
+
+        // Group rows sharing country, type, name and start date into one entry
+        Map<List<Object>, UpcomingHoliday> grouped = new LinkedHashMap<>();
+        for (Holiday h : holidayRepository.findByDateRangeWithRegion(today, endDate)) {
+            UpcomingHoliday entry = grouped.computeIfAbsent(
+                    List.of("public", h.getCountryCode(), h.getDate(), h.getLocalName()),
+                    k -> newEntry(h.getLocalName(), "public", h.getCountryCode(), h.getDate(), h.getDate()));
+            if (h.getRegion() == null) {
+                entry.setGlobal(true);
+                entry.setAffectedPopulation(populationOf(h.getCountry().getPopulation()));
+            } else if (!entry.isGlobal()) {
+                entry.getRegions().add(h.getRegion().getCode());
+                entry.setAffectedPopulation(entry.getAffectedPopulation() + populationOf(h.getRegion().getPopulation()));
+            }
+        }
+        for (SchoolHoliday sh : schoolHolidayRepository.findByDateRangeWithRegion(today, endDate)) {
+            // Also returns the ones that started before today
+            if (sh.getStartDate().isBefore(today)) continue;
+            Region region = sh.getRegion();
+            String countryCode = region.getCountry().getCode();
+            UpcomingHoliday entry = grouped.computeIfAbsent(
+                    List.of("school", countryCode, sh.getStartDate(), sh.getName()),
+                    k -> newEntry(sh.getName(), "school", countryCode, sh.getStartDate(), sh.getEndDate()));
+            if (sh.getEndDate().isAfter(entry.getEndDate())) entry.setEndDate(sh.getEndDate());
+            entry.getRegions().add(region.getCode());
+            entry.setAffectedPopulation(entry.getAffectedPopulation() + populationOf(region.getPopulation()));
+        }
+
+        TreeMap<LocalDate, List<Entry>> byDate = new TreeMap<>();
+        for (UpcomingHoliday holiday : grouped.values()) {
+            byDate.computeIfAbsent(holiday.getDate(), k -> new ArrayList<>()).add(Entry.of(holiday));
+        }
+        byDate.replaceAll((date, onDate) -> onDate.stream()
+                .sorted(Comparator.comparingLong(Entry::affectedPopulation).reversed())
+                .toList());
+        return new Index(today, byDate, Map.copyOf(regionCountries), System.nanoTime());
+    }
+
+    private static UpcomingHoliday newEntry(String name, String type, String countryCode, LocalDate date, LocalDate endDate) {
+        UpcomingHoliday entry = new UpcomingHoliday();
+        entry.setName(name);
+        entry.setType(type);
+        entry.setCountryCode(countryCode);
+        entry.setDate(date);
+        entry.setEndDate(endDate);
+        entry.setRegions(new ArrayList<>());
+        return entry;
+    }
+
+    private static long populationOf(Long population) {
+        return population != null ? population : 0L;
+    }
+
+    private record Index(LocalDate startDate,
+                         NavigableMap<LocalDate, List<Entry>> byDate,
+                         Map<String, String> regionCountries,
+                         long builtAt) {
+    }
+
+    private record Entry(String name, LocalDate date, LocalDate endDate, String type, String countryCode,
+                         boolean global, long affectedPopulation, List<String> regions) {
+
+        static Entry of(UpcomingHoliday h) {
+            return new Entry(h.getName(), h.getDate(), h.getEndDate(), h.getType(), h.getCountryCode(), h.isGlobal(),
+                    h.getAffectedPopulation(), h.isGlobal() ? List.of() : List.copyOf(h.getRegions()));
+        }
+
+        boolean affectsRegion(Set<String> selected, Set<String> selectedCountries) {
+            if (global) {
+                return selectedCountries.contains(countryCode);
+            }
+            for (String region : regions) {
+                if (selected.contains(region)) return true;
+            }
+            return false;
+        }
+
+        UpcomingHoliday toUpcomingHoliday() {
+            UpcomingHoliday h = new UpcomingHoliday();
+            h.setName(name);
+            h.setDate(date);
+            h.setEndDate(endDate);
+            h.setType(type);
+            h.setCountryCode(countryCode);
+            h.setGlobal(global);
+            h.setAffectedPopulation(affectedPopulation);
+            h.setRegions(new ArrayList<>(regions));
+            return h;
+        }
+    }
+}
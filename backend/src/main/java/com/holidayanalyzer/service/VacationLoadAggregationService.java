@@ -0,0 +1,149 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.AggregatedVacationLoadResponse;
+import com.holidayanalyzer.dto.AggregatedVacationLoadResponse.CountrySubtotal;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.repository.CountryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Combines the vacation load of several countries into one series.
+ *
+ * Each country is computed on its own virtual thread and read-only transaction; a shared
+ * semaphore caps how many of them hit the database at once so a single aggregate request
+ * cannot drain the connection pool. The per-country arrays are merged by element-wise sums.
+ */
+@Service
+public class VacationLoadAggregationService {
+
+    private final VacationLoadService vacationLoadService;
+    private final CountryRepository countryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+
+    public VacationLoadAggregationService(VacationLoadService vacationLoadService,
+                                          CountryRepository countryRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${vacation-load.aggregate.parallelism:4}") int parallelism) {
+        this.vacationLoadService = vacationLoadService;
+        this.countryRepository = countryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.permits = new Semaphore(parallelism);
+    }
+
+    /**
+     * @param countryCodes countries to include; all countries when null or empty
+     */
+    public AggregatedVacationLoadResponse aggregate(List<String> countryCodes, LocalDate startDate, LocalDate endDate) {
+        Aggregation aggregation = computeAggregation(countryCodes, startDate, endDate);
+
+        AggregatedVacationLoadResponse response = new AggregatedVacationLoadResponse();
+        response.setStartDate(startDate);
+        response.setEndDate(endDate);
+        response.setTotalPopulation(aggregation.totalPopulation());
+        response.setDailyLoads(aggregation.combined().toDailyLoads());
+        response.setCountries(aggregation.countries());
+        return response;
+    }
+
+    /**
+     * Computes the per-country series concurrently and merges them into one engine
+     * holding the combined population series.
+     *
+     * @param countryCodes countries to include; all countries when null or empty
+     */
+    public Aggregation computeAggregation(List<String> countryCodes, LocalDate startDate, LocalDate endDate) {
+        vacationLoadService.validateRange(startDate, endDate);
+
+        List<Country> countries = countryCodes == null || countryCodes.isEmpty()
+                ? countryRepository.findAll()
+                : countryCodes.stream()
+                    .map(code -> countryRepository.findByCode(code)
+                            .orElseThrow(() -> new IllegalArgumentException("Country not found: " + code)))
+                    .toList();
+
+        List<Future<VacationLoadEngine>> futures = new ArrayList<>(countries.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Country country : countries) {
+                futures.add(executor.submit(() -> loadEngine(country.getCode(), startDate, endDate)));
+            }
+        }
+
+        VacationLoadEngine combined = new VacationLoadEngine(startDate, endDate);
+        long totalPopulation = 0;
+        List<CountrySubtotal> subtotals = new ArrayList<>(countries.size());
+
+        for (int c = 0; c < countries.size(); c++) {
+            Country country = countries.get(c);
+            VacationLoadEngine engine = join(futures.get(c), country.getCode());
+            combined.addPopulations(engine);
+
+            long[] school = engine.schoolHolidayPopulation();
+            long[] pub = engine.publicHolidayPopulation();
+            long schoolSum = 0;
+            long publicSum = 0;
+            int peak = 0;
+            for (int i = 0; i < school.length; i++) {
+                schoolSum += school[i];
+                publicSum += pub[i];
+                if (school[i] + pub[i] > school[peak] + pub[peak]) {
+                    peak = i;
+                }
+            }
+
+            CountrySubtotal subtotal = new CountrySubtotal();
+            subtotal.setCountryCode(country.getCode());
+            subtotal.setCountryName(country.getName());
+            subtotal.setPopulation(country.getPopulation() != null ? country.getPopulation() : 0);
+            subtotal.setSchoolHolidayPersonDays(schoolSum);
+            subtotal.setPublicHolidayPersonDays(publicSum);
+            subtotal.setPeakDate(startDate.plusDays(peak));
+            subtotal.setPeakPopulation(school[peak] + pub[peak]);
+
+            subtotals.add(subtotal);
+            totalPopulation += subtotal.getPopulation();
+        }
+
+        return new Aggregation(combined, totalPopulation, subtotals);
+    }
+
+    private VacationLoadEngine loadEngine(String countryCode, LocalDate startDate, LocalDate endDate) throws InterruptedException {
+        permits.acquire();
+        try {
+            // Lazy region/country associations are resolved inside the worker's own transaction
+            return readOnlyTransaction.execute(status -> vacationLoadService.loadEngine(countryCode, startDate, endDate));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private VacationLoadEngine join(Future<VacationLoadEngine> future, String countryCode) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while aggregating vacation load", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Failed to compute vacation load for " + countryCode, e.getCause());
+        }
+    }
+
+    public record Aggregation(VacationLoadEngine combined, long totalPopulation, List<CountrySubtotal> countries) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.holidayanalyzer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.holidayanalyzer.dto.VacationLoadResponse;
+import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
+import com.holidayanalyzer.dto.VacationLoadResponse.PeakPeriod;
+import com.holidayanalyzer.dto.VacationLoadResponse.WeeklyLoad;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of {@link VacationLoadResponse}s keyed by (countryCode, regions, year);
+ * the region list is empty for whole-country responses.
+ *
+ * Entries are evicted by size and by age. Admin write paths invalidate the affected
+ * keys through {@link HolidayDataChangedEvent}; the age limit bounds staleness on the
+ * other replicas, which only see the write through their own expiry.
+ *
+ * Entries carry the {@link DataVersion} their load started at, and each invalidation records
+ * the version it happened at. A load still running when its key is invalidated is stored
+ * afterwards; the next read finds it older than the invalidation, drops it and loads again.
+ *
+ * The cache holds immutable records of the responses; every call gets its own DTOs built from
+ * them, so callers may modify what they receive without affecting other requests.
+ */
+@Component
+public class VacationLoadCache {
+
+    private final VacationLoadService vacationLoadService;
+    private final DataVersion dataVersion;
+    private final Cache<Key, CachedResponse> cache;
+    // Version of the last invalidation per country (year null) and per country-year
+    private final Map<Scope, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public VacationLoadCache(VacationLoadService vacationLoadService,
+                             DataVersion dataVersion,
+                             @Value("${vacation-load.cache.max-size:500}") long maxSize,
+                             @Value("${vacation-load.cache.ttl:PT10M}") Duration ttl) {
+        this.vacationLoadService = vacationLoadService;
+        this.dataVersion = dataVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public VacationLoadResponse getVacationLoad(String countryCode, List<String> regionCodes, int year) {
+        List<String> regions = regionCodes.stream().distinct().sorted().toList();
+        Key key = new Key(countryCode, regions, year);
+        CachedResponse cached = cache.get(key, this::load);
+        while (isStale(key, cached)) {
+            cache.asMap().remove(key, cached);
+            cached = cache.get(key, this::load);
+        }
+        return cached.toResponse();
+    }
+
+    @EventListener
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        if (event.year() != null) {
+            invalidate(event.countryCode(), event.year());
+        } else {
+            invalidateCountry(event.countryCode());
+        }
+    }
+
+    public void invalidate(String countryCode, int year) {
+        invalidatedAt.put(new Scope(countryCode, year), dataVersion.current());
+        cache.asMap().keySet().removeIf(key -> {
+            boolean match = key.countryCode().equals(countryCode) && key.year() == year;
+            if (match) invalidations.incrementAndGet();
+            return match;
+        });
+    }
+
+    /**
+     * Drops every year of a country, e.g. after its or one of its regions' population changed.
+     */
+    public void invalidateCountry(String countryCode) {
+        invalidatedAt.put(new Scope(countryCode, null), dataVersion.current());
+        cache.asMap().keySet().removeIf(key -> {
+            boolean match = key.countryCode().equals(countryCode);
+            if (match) invalidations.incrementAndGet();
+            return match;
+        });
+    }
+
+    public void invalidateAll() {
+        invalidations.addAndGet(cache.estimatedSize());
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("invalidations", invalidations.get());
+        result.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return result;
+    }
+
+    private CachedResponse load(Key key) {
+        long version = dataVersion.current();
+        return CachedResponse.of(version,
+                vacationLoadService.calculateVacationLoad(key.countryCode(), key.regionCodes(), key.year()));
+    }
+
+    private boolean isStale(Key key, CachedResponse cached) {
+        return cached.version() < invalidatedAt.getOrDefault(new Scope(key.countryCode(), null), Long.MIN_VALUE)
+                || cached.version() < invalidatedAt.getOrDefault(new Scope(key.countryCode(), key.year()), Long.MIN_VALUE);
+    }
+
+    private record Key(String countryCode, List<String> regionCodes, int year) {
+    }
+
+    private record Scope(String countryCode, Integer year) {
+    }
+
+    private record CachedResponse(long version, int year, long countryPopulation, List<Week> weeks, List<Day> days,
+                                  Peak peak) {
+
+        static CachedResponse of(long version, VacationLoadResponse response) {
+            PeakPeriod p = response.getPeakPeriod();
+            return new CachedResponse(version, response.getYear(), response.getCountryPopulation(),
+                    response.getWeeklyLoads().stream().map(Week::of).toList(),
+                    response.getDailyLoads().stream().map(Day::of).toList(),
+                    p == null ? null : new Peak(p.getStartWeek(), p.getEndWeek(), p.getStartDate(), p.getEndDate(),
+                            p.getMaxPopulation(), p.getDescription()));
+        }
+
+        VacationLoadResponse toResponse() {
+            VacationLoadResponse response = new VacationLoadResponse();
+            response.setYear(year);
+            response.setCountryPopulation(countryPopulation);
+            List<WeeklyLoad> weeklyLoads = new ArrayList<>(weeks.size());
+            for (Week week : weeks) weeklyLoads.add(week.toWeeklyLoad());
+            response.setWeeklyLoads(weeklyLoads);
+            List<DailyLoad> dailyLoads = new ArrayList<>(days.size());
+            for (Day day : days) dailyLoads.add(day.toDailyLoad());
+            response.setDailyLoads(dailyLoads);
+            if (peak != null) {
+                PeakPeriod p = new PeakPeriod();
+                p.setStartWeek(peak.startWeek());
+                p.setEndWeek(peak.endWeek());
+                p.setStartDate(peak.startDate());
+                p.setEndDate(peak.endDate());
+                p.setMaxPopulation(peak.maxPopulation());
+                p.setDescription(peak.description());
+                response.setPeakPeriod(p);
+            }
+            return response;
+        }
+    }
+
+    private record Week(int weekNumber, LocalDate weekStart, LocalDate weekEnd, long school, long pub, long total,
+                        List<String> schoolHolidays, List<String> publicHolidays) {
+
+        static Week of(WeeklyLoad w) {
+            return new Week(w.getWeekNumber(), w.getWeekStart(), w.getWeekEnd(), w.getSchoolHolidayPopulation(),
+                    w.getPublicHolidayPopulation(), w.getTotalPopulation(),
+                    List.copyOf(w.getActiveSchoolHolidays()), List.copyOf(w.getActivePublicHolidays()));
+        }
+
+        WeeklyLoad toWeeklyLoad() {
+            WeeklyLoad w = new WeeklyLoad();
+            w.setWeekNumber(weekNumber);
+            w.setWeekStart(weekStart);
+            w.setWeekEnd(weekEnd);
+            w.setSchoolHolidayPopulation(school);
+            w.setPublicHolidayPopulation(pub);
+            w.setTotalPopulation(total);
+            w.setActiveSchoolHolidays(new ArrayList<>(schoolHolidays));
+            w.setActivePublicHolidays(new ArrayList<>(publicHolidays));
+            return w;
+        }
+    }
+
+    private record Day(LocalDate date, long school, long pub, long total) {
+
+        static Day of(DailyLoad d) {
+            return new Day(d.getDate(), d.getSchoolHolidayPopulation(), d.getPublicHolidayPopulation(), d.getTotalPopulation());
+        }
+
+        DailyLoad toDailyLoad() {
+            DailyLoad d = new DailyLoad();
+            d.setDate(date);
+            d.setSchoolHolidayPopulation(school);
+            d.setPublicHolidayPopulation(pub);
+            d.setTotalPopulation(total);
+            return d;
+        }
+    }
+
+    private record Peak(int startWeek, int endWeek, LocalDate startDate, LocalDate endDate, long maxPopulation,
+                        String description) {
+    }
+}
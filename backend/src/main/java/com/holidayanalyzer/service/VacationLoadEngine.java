@@ -0,0 +1,359 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
+import com.holidayanalyzer.dto.VacationLoadResponse.WeeklyLoad;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.*;
+
+/**
+ * Primitive accumulation engine behind {@link VacationLoadService}.
+ *
+ * The covered date range is kept as {@code long[]} arrays indexed by the day offset
+ * from the range start (epoch day minus start epoch day). School holiday intervals are
+ * applied as difference-array updates (+population at the start, -population the day
+ * after the end) and resolved with a single prefix sum, so accumulation costs
+ * O(intervals + days) instead of walking every interval day by day.
+ *
+ * Detail labels ("Region: Holiday") are numbered densely per engine, in the order they are
+ * added, and per-week membership is a {@link BitSet} of those ids, so its size follows the
+ * labels of this range only. The label strings themselves are the callers' (shared) instances.
+ * The weekly label lists keep exactly the order the former per-day {@code HashSet}
+ * implementation produced, computed on the ids without building the sets.
+ */
+public class VacationLoadEngine {
+
+    private static final WeekFields WEEK_FIELDS = WeekFields.ISO;
+
+    private final LocalDate startDate;
+    private final long startEpochDay;
+    private final int days;
+
+    private final long[] schoolDiff;
+    private final long[] publicPopulation;
+    private long[] schoolPopulation;
+
+    // Labels numbered per engine, with the hash spread HashMap uses for bucket selection
+    private final Map<String, Integer> labelIds = new HashMap<>();
+    private String[] labelTexts = new String[16];
+    private int[] labelHashes = new int[16];
+    private int labelCount;
+
+    private int[] intervalStart = new int[16];
+    private int[] intervalEnd = new int[16];
+    private int[] intervalLabel = new int[16];
+    private int intervalCount;
+
+    private int[] publicDay = new int[16];
+    private int[] publicLabel = new int[16];
+    private int publicCount;
+
+    public VacationLoadEngine(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date " + endDate + " is before start date " + startDate);
+        }
+        this.startDate = startDate;
+        this.startEpochDay = startDate.toEpochDay();
+        this.days = (int) (endDate.toEpochDay() - startEpochDay + 1);
+        this.schoolDiff = new long[days + 1];
+        this.publicPopulation = new long[days];
+    }
+
+    public static VacationLoadEngine forYear(int year) {
+        return new VacationLoadEngine(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    /**
+     * Adds a school holiday interval (both ends inclusive). Parts outside the engine's
+     * range are ignored.
+     */
+    public void addSchoolHoliday(LocalDate start, LocalDate end, long population, String label) {
+        long from = Math.max(start.toEpochDay() - startEpochDay, 0);
+        long to = Math.min(end.toEpochDay() - startEpochDay, days - 1);
+        if (from > to) return;
+
+        schoolDiff[(int) from] += population;
+        schoolDiff[(int) to + 1] -= population;
+        schoolPopulation = null;
+
+        if (intervalCount == intervalStart.length) {
+            int capacity = intervalCount * 2;
+            intervalStart = Arrays.copyOf(intervalStart, capacity);
+            intervalEnd = Arrays.copyOf(intervalEnd, capacity);
+            intervalLabel = Arrays.copyOf(intervalLabel, capacity);
+        }
+        intervalStart[intervalCount] = (int) from;
+        intervalEnd[intervalCount] = (int) to;
+        intervalLabel[intervalCount] = labelId(label);
+        intervalCount++;
+    }
+
+    /**
+     * Adds a single-day public holiday. Dates outside the engine's range are ignored.
+     */
+    public void addPublicHoliday(LocalDate date, long population, String label) {
+        long offset = date.toEpochDay() - startEpochDay;
+        if (offset < 0 || offset >= days) return;
+
+        publicPopulation[(int) offset] += population;
+
+        if (publicCount == publicDay.length) {
+            int capacity = publicCount * 2;
+            publicDay = Arrays.copyOf(publicDay, capacity);
+            publicLabel = Arrays.copyOf(publicLabel, capacity);
+        }
+        publicDay[publicCount] = (int) offset;
+        publicLabel[publicCount] = labelId(label);
+        publicCount++;
+    }
+
+    private int labelId(String label) {
+        Integer id = labelIds.get(label);
+        if (id != null) return id;
+
+        if (labelCount == labelTexts.length) {
+            labelTexts = Arrays.copyOf(labelTexts, labelCount * 2);
+            labelHashes = Arrays.copyOf(labelHashes, labelCount * 2);
+        }
+        int h = label.hashCode();
+        labelTexts[labelCount] = label;
+        labelHashes[labelCount] = h ^ (h >>> 16);
+        labelIds.put(label, labelCount);
+        return labelCount++;
+    }
+
+    /**
+     * Adds another engine's population series for the same range element-wise. Only the
+     * populations are merged; the other engine's holiday labels are not carried over.
+     */
+    public void addPopulations(VacationLoadEngine other) {
+        if (other.startEpochDay != startEpochDay || other.days != days) {
+            throw new IllegalArgumentException("Cannot merge engines covering different date ranges");
+        }
+        for (int i = 0; i <= days; i++) {
+            schoolDiff[i] += other.schoolDiff[i];
+        }
+        for (int i = 0; i < days; i++) {
+            publicPopulation[i] += other.publicPopulation[i];
+        }
+        schoolPopulation = null;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Daily school holiday population, indexed by day offset. The returned array is
+     * owned by the engine and must not be modified.
+     */
+    public long[] schoolHolidayPopulation() {
+        if (schoolPopulation == null) {
+            long[] result = new long[days];
+            long running = 0;
+            for (int i = 0; i < days; i++) {
+                running += schoolDiff[i];
+                result[i] = running;
+            }
+            schoolPopulation = result;
+        }
+        return schoolPopulation;
+    }
+
+    /**
+     * Daily public holiday population, indexed by day offset. The returned array is
+     * owned by the engine and must not be modified.
+     */
+    public long[] publicHolidayPopulation() {
+        return publicPopulation;
+    }
+
+    /**
+     * Emits every day of the range in order, resolving the school holiday prefix sum on
+     * the fly. Nothing is allocated per day, which lets callers stream long series.
+     */
+    public void forEachDay(DayConsumer consumer) throws IOException {
+        long running = 0;
+        for (int i = 0; i < days; i++) {
+            running += schoolDiff[i];
+            consumer.accept(startEpochDay + i, running, publicPopulation[i]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface DayConsumer {
+        void accept(long epochDay, long schoolHolidayPopulation, long publicHolidayPopulation) throws IOException;
+    }
+
+    public List<DailyLoad> toDailyLoads() {
+        long[] school = schoolHolidayPopulation();
+        List<DailyLoad> result = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            DailyLoad dl = new DailyLoad();
+            dl.setDate(startDate.plusDays(i));
+            dl.setSchoolHolidayPopulation(school[i]);
+            dl.setPublicHolidayPopulation(publicPopulation[i]);
+            dl.setTotalPopulation(school[i] + publicPopulation[i]);
+            result.add(dl);
+        }
+        return result;
+    }
+
+    /**
+     * Aggregates the range by ISO week number. Days sharing a week number (e.g. the first
+     * and last days of a year) end up in the same week, which keeps the date of the first
+     * day seen as its anchor; weeks are returned ordered by week number.
+     */
+    public List<WeeklyLoad> toWeeklyLoads() {
+        return aggregateWeeks(true);
+    }
+
+    /**
+     * Aggregates the range into consecutive ISO weeks in chronological order, so ranges
+     * spanning several years yield one entry per calendar week. Partial weeks at either
+     * end of the range only cover the days inside it.
+     */
+    public List<WeeklyLoad> toConsecutiveWeeklyLoads() {
+        return aggregateWeeks(false);
+    }
+
+    private List<WeeklyLoad> aggregateWeeks(boolean byWeekNumber) {
+        long[] school = schoolHolidayPopulation();
+
+        // Interval start/end events and public holidays per day, as int linked lists
+        int[] startHead = newHeads(days);
+        int[] endHead = newHeads(days + 1);
+        int[] startNext = new int[intervalCount];
+        int[] endNext = new int[intervalCount];
+        for (int k = intervalCount - 1; k >= 0; k--) {
+            startNext[k] = startHead[intervalStart[k]];
+            startHead[intervalStart[k]] = k;
+            endNext[k] = endHead[intervalEnd[k] + 1];
+            endHead[intervalEnd[k] + 1] = k;
+        }
+        int[] publicHead = newHeads(days);
+        int[] publicNext = new int[publicCount];
+        for (int k = publicCount - 1; k >= 0; k--) {
+            publicNext[k] = publicHead[publicDay[k]];
+            publicHead[publicDay[k]] = k;
+        }
+
+        // Slot per week: the ISO week number, or the week's index from the start of the range
+        int firstDayOfWeek = startDate.getDayOfWeek().getValue() - 1;
+        int slots = byWeekNumber ? 54 : (firstDayOfWeek + days + 6) / 7;
+        WeeklyLoad[] weeks = new WeeklyLoad[slots];
+        BitSet[] schoolSeen = new BitSet[slots];
+        BitSet[] publicSeen = new BitSet[slots];
+        BitSet active = new BitSet(intervalCount);
+        BitSet dayMark = new BitSet(labelCount);
+        int[] scratch = new int[Math.max(intervalCount, publicCount)];
+
+        int weekNumber = 0;
+        for (int i = 0; i < days; i++) {
+            LocalDate date = startDate.plusDays(i);
+            if (i == 0 || date.getDayOfWeek() == DayOfWeek.MONDAY) {
+                weekNumber = date.get(WEEK_FIELDS.weekOfWeekBasedYear());
+            }
+            int slot = byWeekNumber ? weekNumber : (firstDayOfWeek + i) / 7;
+
+            for (int k = endHead[i]; k >= 0; k = endNext[k]) active.clear(k);
+            for (int k = startHead[i]; k >= 0; k = startNext[k]) active.set(k);
+
+            WeeklyLoad week = weeks[slot];
+            if (week == null) {
+                week = new WeeklyLoad();
+                week.setWeekNumber(weekNumber);
+                week.setWeekStart(date.with(DayOfWeek.MONDAY));
+                week.setWeekEnd(date.with(DayOfWeek.SUNDAY));
+                week.setActiveSchoolHolidays(new ArrayList<>());
+                week.setActivePublicHolidays(new ArrayList<>());
+                weeks[slot] = week;
+                schoolSeen[slot] = new BitSet();
+                publicSeen[slot] = new BitSet();
+            }
+
+            week.setSchoolHolidayPopulation(Math.max(week.getSchoolHolidayPopulation(), school[i]));
+            week.setPublicHolidayPopulation(week.getPublicHolidayPopulation() + publicPopulation[i]);
+
+            int n = 0;
+            for (int k = active.nextSetBit(0); k >= 0; k = active.nextSetBit(k + 1)) {
+                scratch[n++] = intervalLabel[k];
+            }
+            appendNewLabels(scratch, n, dayMark, schoolSeen[slot], week.getActiveSchoolHolidays());
+
+            n = 0;
+            for (int k = publicHead[i]; k >= 0; k = publicNext[k]) {
+                scratch[n++] = publicLabel[k];
+            }
+            appendNewLabels(scratch, n, dayMark, publicSeen[slot], week.getActivePublicHolidays());
+        }
+
+        List<WeeklyLoad> result = new ArrayList<>();
+        for (WeeklyLoad week : weeks) {
+            if (week == null) continue;
+            week.setTotalPopulation(week.getSchoolHolidayPopulation() + week.getPublicHolidayPopulation());
+            result.add(week);
+        }
+        return result;
+    }
+
+    /**
+     * Appends the day's labels that the week has not seen yet, in the order a
+     * {@code HashSet<String>} of the day's labels iterates them (as the original implementation
+     * did): by bucket for the capacity the set would have, ties in insertion order. The ids
+     * are deduplicated and sorted in place in {@code dayLabels}; nothing is allocated.
+     */
+    private void appendNewLabels(int[] dayLabels, int count, BitSet dayMark, BitSet seen, List<String> target) {
+        boolean hasNew = false;
+        for (int j = 0; j < count && !hasNew; j++) {
+            hasNew = !seen.get(dayLabels[j]);
+        }
+        if (!hasNew) return;
+
+        int n = 0;
+        for (int j = 0; j < count; j++) {
+            int id = dayLabels[j];
+            if (!dayMark.get(id)) {
+                dayMark.set(id);
+                dayLabels[n++] = id;
+            }
+        }
+        for (int j = 0; j < n; j++) dayMark.clear(dayLabels[j]);
+
+        // HashMap's table size: 16, doubled while the size exceeds 3/4 of it
+        int capacity = 16;
+        while (n > capacity / 4 * 3) capacity <<= 1;
+        int mask = capacity - 1;
+        for (int j = 1; j < n; j++) {
+            int id = dayLabels[j];
+            int bucket = labelHashes[id] & mask;
+            int k = j - 1;
+            while (k >= 0 && (labelHashes[dayLabels[k]] & mask) > bucket) {
+                dayLabels[k + 1] = dayLabels[k];
+                k--;
+            }
+            dayLabels[k + 1] = id;
+        }
+
+        for (int j = 0; j < n; j++) {
+            int id = dayLabels[j];
+            if (!seen.get(id)) {
+                seen.set(id);
+                target.add(labelTexts[id]);
+            }
+        }
+    }
+
+    private static int[] newHeads(int size) {
+        int[] heads = new int[size];
+        Arrays.fill(heads, -1);
+        return heads;
+    }
+}
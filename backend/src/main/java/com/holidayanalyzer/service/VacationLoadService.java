@@ -1,229 +1,363 @@
 package com.holidayanalyzer.service;
 
+import com.holidayanalyzer.dto.HolidayView;
+import com.holidayanalyzer.dto.PeriodAnalysisResponse;
+import com.holidayanalyzer.dto.PeriodAnalysisResponse.LoadPeriod;
+import com.holidayanalyzer.dto.SchoolHolidayView;
+import com.holidayanalyzer.dto.VacationLoadRangeResponse;
 import com.holidayanalyzer.dto.VacationLoadResponse;
 import com.holidayanalyzer.dto.VacationLoadResponse.WeeklyLoad;
 import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
 import com.holidayanalyzer.dto.VacationLoadResponse.PeakPeriod;
 import com.holidayanalyzer.model.Country;
-import com.holidayanalyzer.model.Holiday;
-import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.model.Region;
 import com.holidayanalyzer.repository.CountryRepository;
 import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
 import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.WeekFields;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class VacationLoadService {
 
+    static final int MAX_RANGE_YEARS = 50;
+
     private final SchoolHolidayRepository schoolHolidayRepository;
     private final HolidayRepository holidayRepository;
     private final CountryRepository countryRepository;
+    private final RegionRepository regionRepository;
+    private final HolidayLabelDictionary labels;
+    private final MeterRegistry meterRegistry;
+
+    // Per-stage timers (vacation.load.stage): repository fetch incl. scope resolution,
+    // accumulation into the engine, weekly and daily aggregation, peak detection
+    private final Timer fetchTimer;
+    private final Timer accumulateTimer;
+    private final Timer weeklyTimer;
+    private final Timer dailyTimer;
+    private final Timer peakTimer;
 
     public VacationLoadService(SchoolHolidayRepository schoolHolidayRepository,
                                HolidayRepository holidayRepository,
-                               CountryRepository countryRepository) {
+                               CountryRepository countryRepository,
+                               RegionRepository regionRepository,
+                               HolidayLabelDictionary labels,
+                               MeterRegistry meterRegistry) {
         this.schoolHolidayRepository = schoolHolidayRepository;
         this.holidayRepository = holidayRepository;
         this.countryRepository = countryRepository;
+        this.regionRepository = regionRepository;
+        this.labels = labels;
+        this.meterRegistry = meterRegistry;
+        this.fetchTimer = stageTimer(meterRegistry, "fetch");
+        this.accumulateTimer = stageTimer(meterRegistry, "accumulate");
+        this.weeklyTimer = stageTimer(meterRegistry, "weekly");
+        this.dailyTimer = stageTimer(meterRegistry, "daily");
+        this.peakTimer = stageTimer(meterRegistry, "peak");
+    }
+
+    private static Timer stageTimer(MeterRegistry registry, String stage) {
+        return Timer.builder("vacation.load.stage")
+                .description("Time spent in one stage of a vacation load calculation")
+                .tag("stage", stage)
+                .register(registry);
     }
 
     public VacationLoadResponse calculateVacationLoad(String countryCode, int year) {
-        // Hole das Land mit Population
-        Country country = countryRepository.findByCode(countryCode)
-                .orElseThrow(() -> new IllegalArgumentException("Country not found: " + countryCode));
+        return calculateVacationLoad(countryCode, List.of(), year);
+    }
+
+    /**
+     * Yearly load of a country, or of some of its regions when {@code regionCodes} is not
+     * empty. In the regional view only those regions' school holidays and public holidays
+     * are loaded, national holidays count the selected regions' population, and
+     * {@code countryPopulation} holds the selected regions' combined population.
+     */
+    public VacationLoadResponse calculateVacationLoad(String countryCode, List<String> regionCodes, int year) {
+        Timer.Sample fetch = Timer.start(meterRegistry);
+        Scope scope = resolveScope(countryCode, regionCodes);
+
+        List<SchoolHolidayView> schoolHolidays = scope.regional()
+                ? schoolHolidayRepository.findViewsByRegionCodesAndYear(scope.regionCodes(), year)
+                : schoolHolidayRepository.findViewsByCountryCodeAndYear(countryCode, year);
+        List<HolidayView> publicHolidays = scope.regional()
+                ? holidayRepository.findViewsByCountryCodeYearAndRegions(countryCode, year, scope.regionCodes())
+                : holidayRepository.findViewsByCountryCodeAndYear(countryCode, year);
+        fetch.stop(fetchTimer);
+
+        VacationLoadEngine engine = VacationLoadEngine.forYear(year);
+        accumulateTimer.record(() -> accumulate(engine, schoolHolidays, publicHolidays, scope.nationalHolidayPopulation()));
+
+        List<WeeklyLoad> weeklyLoads = weeklyTimer.record(engine::toWeeklyLoads);
+        List<DailyLoad> dailyLoads = dailyTimer.record(engine::toDailyLoads);
+        PeakPeriod peakPeriod = peakTimer.record(() -> findPeakPeriod(weeklyLoads));
 
-        List<SchoolHoliday> schoolHolidays = schoolHolidayRepository.findByCountryCodeAndYear(countryCode, year);
-        List<Holiday> publicHolidays = holidayRepository.findByCountryCodeAndYear(countryCode, year);
+        VacationLoadResponse response = new VacationLoadResponse();
+        response.setYear(year);
+        response.setCountryPopulation(scope.knownPopulation());
+        response.setWeeklyLoads(weeklyLoads);
+        response.setDailyLoads(dailyLoads);
+        response.setPeakPeriod(peakPeriod);
 
-        Map<LocalDate, DailyLoadData> dailyData = new LinkedHashMap<>();
+        return response;
+    }
 
-        LocalDate startOfYear = LocalDate.of(year, 1, 1);
-        LocalDate endOfYear = LocalDate.of(year, 12, 31);
+    /**
+     * Computes one continuous daily and weekly series for an arbitrary date range from a
+     * single range query per table. Unlike the yearly view, school holidays are selected
+     * by their dates rather than their school year, so e.g. Christmas holidays reaching
+     * into January are included there too.
+     */
+    public VacationLoadRangeResponse calculateVacationLoad(String countryCode, LocalDate startDate, LocalDate endDate) {
+        return calculateVacationLoad(countryCode, List.of(), startDate, endDate);
+    }
 
-        for (LocalDate date = startOfYear; !date.isAfter(endOfYear); date = date.plusDays(1)) {
-            dailyData.put(date, new DailyLoadData());
-        }
+    public VacationLoadRangeResponse calculateVacationLoad(String countryCode, List<String> regionCodes,
+                                                           LocalDate startDate, LocalDate endDate) {
+        CountrySeries series = calculateSeries(countryCode, regionCodes, startDate, endDate);
+        VacationLoadEngine engine = series.engine();
 
-        for (SchoolHoliday sh : schoolHolidays) {
-            if (sh.getRegion() == null || sh.getRegion().getPopulation() == null) continue;
+        VacationLoadRangeResponse response = new VacationLoadRangeResponse();
+        response.setStartDate(startDate);
+        response.setEndDate(endDate);
+        response.setCountryPopulation(series.knownPopulation());
+        response.setWeeklyLoads(weeklyTimer.record(engine::toConsecutiveWeeklyLoads));
+        response.setDailyLoads(dailyTimer.record(engine::toDailyLoads));
 
-            long population = sh.getRegion().getPopulation();
-            String regionName = sh.getRegion().getName();
-            String holidayName = sh.getName();
+        return response;
+    }
 
-            for (LocalDate date = sh.getStartDate(); !date.isAfter(sh.getEndDate()); date = date.plusDays(1)) {
-                if (dailyData.containsKey(date)) {
-                    DailyLoadData data = dailyData.get(date);
-                    data.schoolHolidayPopulation += population;
-                    data.schoolHolidayDetails.add(regionName + ": " + holidayName);
-                }
+    public CountrySeries calculateSeries(String countryCode, LocalDate startDate, LocalDate endDate) {
+        return calculateSeries(countryCode, List.of(), startDate, endDate);
+    }
+
+    /**
+     * Validates the range and loads the series of a country, or of some of its regions,
+     * without building any DTOs, for callers that stream the days themselves.
+     */
+    public CountrySeries calculateSeries(String countryCode, List<String> regionCodes,
+                                         LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+
+        Timer.Sample fetch = Timer.start(meterRegistry);
+        Scope scope = resolveScope(countryCode, regionCodes);
+        List<SchoolHolidayView> schoolHolidays = scope.regional()
+                ? schoolHolidayRepository.findViewsByRegionCodesAndDateRange(scope.regionCodes(), startDate, endDate)
+                : schoolHolidayRepository.findViewsByCountryCodeAndDateRange(countryCode, startDate, endDate);
+        List<HolidayView> publicHolidays = scope.regional()
+                ? holidayRepository.findViewsByCountryCodeAndDateRangeAndRegions(countryCode, startDate, endDate, scope.regionCodes())
+                : holidayRepository.findViewsByCountryCodeAndDateRange(countryCode, startDate, endDate);
+        fetch.stop(fetchTimer);
+
+        VacationLoadEngine engine = new VacationLoadEngine(startDate, endDate);
+        accumulateTimer.record(() -> accumulate(engine, schoolHolidays, publicHolidays, scope.nationalHolidayPopulation()));
+        return new CountrySeries(scope.country(), scope.population(), engine);
+    }
+
+    /**
+     * Loads the school and public holidays of a country overlapping the range into a new engine.
+     */
+    public VacationLoadEngine loadEngine(String countryCode, LocalDate startDate, LocalDate endDate) {
+        Timer.Sample fetch = Timer.start(meterRegistry);
+        List<SchoolHolidayView> schoolHolidays = schoolHolidayRepository.findViewsByCountryCodeAndDateRange(countryCode, startDate, endDate);
+        List<HolidayView> publicHolidays = holidayRepository.findViewsByCountryCodeAndDateRange(countryCode, startDate, endDate);
+        fetch.stop(fetchTimer);
+
+        VacationLoadEngine engine = new VacationLoadEngine(startDate, endDate);
+        accumulateTimer.record(() -> accumulate(engine, schoolHolidays, publicHolidays, null));
+        return engine;
+    }
+
+    public void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        if (endDate.isAfter(startDate.plusYears(MAX_RANGE_YEARS))) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_RANGE_YEARS + " years");
+        }
+    }
+
+    private Scope resolveScope(String countryCode, List<String> regionCodes) {
+        Country country = countryRepository.findByCode(countryCode)
+                .orElseThrow(() -> new IllegalArgumentException("Country not found: " + countryCode));
+        if (regionCodes == null || regionCodes.isEmpty()) {
+            return new Scope(country, List.of(), country.getPopulation());
+        }
+
+        List<String> codes = regionCodes.stream().distinct().sorted().toList();
+        List<Region> regions = regionRepository.findByCodeIn(codes);
+        Long population = null;
+        for (Region region : regions) {
+            if (!region.getCountry().getCode().equals(countryCode)) {
+                throw new IllegalArgumentException("Region " + region.getCode() + " does not belong to " + countryCode);
             }
+            if (region.getPopulation() != null) {
+                population = (population != null ? population : 0L) + region.getPopulation();
+            }
+        }
+        if (regions.size() != codes.size()) {
+            Set<String> missing = new TreeSet<>(codes);
+            regions.forEach(r -> missing.remove(r.getCode()));
+            throw new IllegalArgumentException("Region not found: " + String.join(", ", missing));
+        }
+        return new Scope(country, codes, population);
+    }
+
+    /**
+     * @param nationalHolidayPopulation population affected by national public holidays, or
+     *                                  {@code null} for the holiday's country population
+     */
+    private void accumulate(VacationLoadEngine engine, List<SchoolHolidayView> schoolHolidays, List<HolidayView> publicHolidays,
+                            Long nationalHolidayPopulation) {
+        for (SchoolHolidayView sh : schoolHolidays) {
+            if (sh.getRegion().getPopulation() == null) continue;
+
+            engine.addSchoolHoliday(sh.getStartDate(), sh.getEndDate(), sh.getRegion().getPopulation(),
+                    labels.schoolHolidayLabel(sh.getRegion().getName(), sh.getName()));
         }
 
-        for (Holiday h : publicHolidays) {
+        for (HolidayView h : publicHolidays) {
             if (h.getDate() == null) continue;
 
             long population;
             if (h.getRegion() != null && h.getRegion().getPopulation() != null) {
                 population = h.getRegion().getPopulation();
-            } else if (h.getCountry() != null && h.getCountry().getPopulation() != null) {
-                population = h.getCountry().getPopulation();
+            } else if (h.getRegion() == null && nationalHolidayPopulation != null) {
+                population = nationalHolidayPopulation;
+            } else if (h.getCountryPopulation() != null) {
+                population = h.getCountryPopulation();
             } else {
                 continue;
             }
 
-            LocalDate date = h.getDate();
-            if (dailyData.containsKey(date)) {
-                DailyLoadData data = dailyData.get(date);
-                data.publicHolidayPopulation += population;
-                data.publicHolidayDetails.add(h.getLocalName());
-            }
+            engine.addPublicHoliday(h.getDate(), population, h.getLocalName());
         }
+    }
 
-        List<WeeklyLoad> weeklyLoads = aggregateByWeek(dailyData, year);
-        List<DailyLoad> dailyLoads = convertToDailyLoads(dailyData);
-        PeakPeriod peakPeriod = findPeakPeriod(weeklyLoads);
-
-        VacationLoadResponse response = new VacationLoadResponse();
-        response.setYear(year);
-        response.setCountryPopulation(country.getPopulation());
-        response.setWeeklyLoads(weeklyLoads);
-        response.setDailyLoads(dailyLoads);
-        response.setPeakPeriod(peakPeriod);
-
+    /**
+     * Detects the top {@code count} peak and trough periods of a country's (or some of its
+     * regions') school holiday population over the range. Thresholds are fractions of the series maximum.
+     *
+     * @param weekly aggregates into consecutive weeks (weekly maxima) instead of days
+     */
+    public PeriodAnalysisResponse detectPeriods(String countryCode, List<String> regionCodes,
+                                                LocalDate startDate, LocalDate endDate,
+                                                boolean weekly, int count, double peakThreshold,
+                                                double troughThreshold, int minLength) {
+        if (peakThreshold < 0 || peakThreshold > 1 || troughThreshold < 0 || troughThreshold > 1) {
+            throw new IllegalArgumentException("Thresholds must be between 0 and 1");
+        }
+        VacationLoadEngine engine = calculateSeries(countryCode, regionCodes, startDate, endDate).engine();
+
+        List<WeeklyLoad> weeks = weekly ? weeklyTimer.record(engine::toConsecutiveWeeklyLoads) : null;
+        long[] series;
+        if (weekly) {
+            series = new long[weeks.size()];
+            for (int i = 0; i < series.length; i++) series[i] = weeks.get(i).getSchoolHolidayPopulation();
+        } else {
+            series = engine.schoolHolidayPopulation();
+        }
+        long max = 0;
+        for (long value : series) max = Math.max(max, value);
+
+        long peakMin = Math.max(1, (long) Math.ceil(max * peakThreshold));
+        long troughMax = (long) Math.floor(max * troughThreshold);
+        LoadPeriodDetector.Detection detection = peakTimer.record(
+                () -> LoadPeriodDetector.detect(series, peakMin, troughMax, minLength, count));
+
+        PeriodAnalysisResponse response = new PeriodAnalysisResponse();
+        response.setCountryCode(countryCode);
+        response.setStartDate(startDate);
+        response.setEndDate(endDate);
+        response.setGranularity(weekly ? "week" : "day");
+        response.setMaxPopulation(max);
+        response.setPeaks(toLoadPeriods(detection.peaks(), engine, weeks));
+        response.setTroughs(toLoadPeriods(detection.troughs(), engine, weeks));
         return response;
     }
 
-    private List<WeeklyLoad> aggregateByWeek(Map<LocalDate, DailyLoadData> dailyData, int year) {
-        Map<Integer, WeeklyLoad> weekMap = new TreeMap<>();
-        WeekFields weekFields = WeekFields.ISO;
-
-        for (Map.Entry<LocalDate, DailyLoadData> entry : dailyData.entrySet()) {
-            LocalDate date = entry.getKey();
-            DailyLoadData data = entry.getValue();
-
-            int weekNumber = date.get(weekFields.weekOfWeekBasedYear());
-
-            WeeklyLoad week = weekMap.computeIfAbsent(weekNumber, k -> {
-                WeeklyLoad w = new WeeklyLoad();
-                w.setWeekNumber(k);
-                w.setWeekStart(date.with(DayOfWeek.MONDAY));
-                w.setWeekEnd(date.with(DayOfWeek.SUNDAY));
-                w.setActiveSchoolHolidays(new ArrayList<>());
-                w.setActivePublicHolidays(new ArrayList<>());
-                return w;
-            });
-
-            week.setSchoolHolidayPopulation(Math.max(week.getSchoolHolidayPopulation(), data.schoolHolidayPopulation));
-            week.setPublicHolidayPopulation(week.getPublicHolidayPopulation() + data.publicHolidayPopulation);
-
-            for (String detail : data.schoolHolidayDetails) {
-                if (!week.getActiveSchoolHolidays().contains(detail)) {
-                    week.getActiveSchoolHolidays().add(detail);
-                }
-            }
-            for (String detail : data.publicHolidayDetails) {
-                if (!week.getActivePublicHolidays().contains(detail)) {
-                    week.getActivePublicHolidays().add(detail);
+    private List<LoadPeriod> toLoadPeriods(List<LoadPeriodDetector.Period> periods, VacationLoadEngine engine,
+                                           List<WeeklyLoad> weeks) {
+        LocalDate start = engine.getStartDate();
+        LocalDate last = start.plusDays(engine.getDays() - 1L);
+        List<LoadPeriod> result = new ArrayList<>(periods.size());
+        for (LoadPeriodDetector.Period period : periods) {
+            LoadPeriod lp = new LoadPeriod();
+            lp.setMaxPopulation(period.max());
+            lp.setAveragePopulation(Math.round(period.average()));
+            if (weeks == null) {
+                lp.setStartDate(start.plusDays(period.start()));
+                lp.setEndDate(start.plusDays(period.end()));
+                lp.setPeakDate(start.plusDays(period.extremeIndex()));
+            } else {
+                // Clamp the partial weeks at either end of the range
+                lp.setStartDate(max(weeks.get(period.start()).getWeekStart(), start));
+                lp.setEndDate(min(weeks.get(period.end()).getWeekEnd(), last));
+                lp.setPeakDate(max(weeks.get(period.extremeIndex()).getWeekStart(), start));
+                Set<String> names = new LinkedHashSet<>();
+                for (WeeklyLoad week : weeks.subList(period.start(), period.end() + 1)) {
+                    names.addAll(week.getActiveSchoolHolidays());
                 }
+                lp.setSchoolHolidays(new ArrayList<>(names));
             }
+            result.add(lp);
         }
+        return result;
+    }
 
-        for (WeeklyLoad week : weekMap.values()) {
-            week.setTotalPopulation(week.getSchoolHolidayPopulation() + week.getPublicHolidayPopulation());
-        }
-
-        return new ArrayList<>(weekMap.values());
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
     }
 
-    private List<DailyLoad> convertToDailyLoads(Map<LocalDate, DailyLoadData> dailyData) {
-        return dailyData.entrySet().stream()
-                .map(entry -> {
-                    DailyLoad dl = new DailyLoad();
-                    dl.setDate(entry.getKey());
-                    dl.setSchoolHolidayPopulation(entry.getValue().schoolHolidayPopulation);
-                    dl.setPublicHolidayPopulation(entry.getValue().publicHolidayPopulation);
-                    dl.setTotalPopulation(entry.getValue().schoolHolidayPopulation + entry.getValue().publicHolidayPopulation);
-                    return dl;
-                })
-                .collect(Collectors.toList());
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
     }
 
-    private PeakPeriod findPeakPeriod(List<WeeklyLoad> weeklyLoads) {
+    /**
+     * The single largest school holiday wave of a year: the weeks around the busiest one
+     * whose population stays within 80% of it.
+     */
+    PeakPeriod findPeakPeriod(List<WeeklyLoad> weeklyLoads) {
         if (weeklyLoads.isEmpty()) return null;
 
-        WeeklyLoad peakWeek = weeklyLoads.stream()
-                .max(Comparator.comparingLong(WeeklyLoad::getSchoolHolidayPopulation))
-                .orElse(null);
-
-        if (peakWeek == null) return null;
-
-        int peakStartWeek = peakWeek.getWeekNumber();
-        int peakEndWeek = peakWeek.getWeekNumber();
-        long threshold = (long) (peakWeek.getSchoolHolidayPopulation() * 0.8);
-
-        for (int i = peakWeek.getWeekNumber() - 1; i >= 1; i--) {
-            int weekNum = i;
-            WeeklyLoad w = weeklyLoads.stream()
-                    .filter(wl -> wl.getWeekNumber() == weekNum)
-                    .findFirst().orElse(null);
-            if (w != null && w.getSchoolHolidayPopulation() >= threshold) {
-                peakStartWeek = i;
-            } else {
-                break;
-            }
+        long[] series = new long[weeklyLoads.size()];
+        long maxPop = 0;
+        for (int i = 0; i < series.length; i++) {
+            series[i] = weeklyLoads.get(i).getSchoolHolidayPopulation();
+            maxPop = Math.max(maxPop, series[i]);
         }
+        LoadPeriodDetector.Period period = LoadPeriodDetector
+                .detect(series, (long) (maxPop * 0.8), -1, 1, 1)
+                .peaks().get(0);
 
-        for (int i = peakWeek.getWeekNumber() + 1; i <= 53; i++) {
-            int weekNum = i;
-            WeeklyLoad w = weeklyLoads.stream()
-                    .filter(wl -> wl.getWeekNumber() == weekNum)
-                    .findFirst().orElse(null);
-            if (w != null && w.getSchoolHolidayPopulation() >= threshold) {
-                peakEndWeek = i;
-            } else {
-                break;
-            }
-        }
-
-        int finalStartWeek = peakStartWeek;
-        int finalEndWeek = peakEndWeek;
-        WeeklyLoad startWeekData = weeklyLoads.stream()
-                .filter(w -> w.getWeekNumber() == finalStartWeek)
-                .findFirst().orElse(peakWeek);
-        WeeklyLoad endWeekData = weeklyLoads.stream()
-                .filter(w -> w.getWeekNumber() == finalEndWeek)
-                .findFirst().orElse(peakWeek);
+        WeeklyLoad startWeekData = weeklyLoads.get(period.start());
+        WeeklyLoad endWeekData = weeklyLoads.get(period.end());
 
         Set<String> holidayTypes = new HashSet<>();
-        for (WeeklyLoad w : weeklyLoads) {
-            if (w.getWeekNumber() >= peakStartWeek && w.getWeekNumber() <= peakEndWeek) {
-                for (String sh : w.getActiveSchoolHolidays()) {
-                    if (sh.contains("Sommerferien")) holidayTypes.add("Sommerferien");
-                    else if (sh.contains("Osterferien")) holidayTypes.add("Osterferien");
-                    else if (sh.contains("Herbstferien")) holidayTypes.add("Herbstferien");
-                    else if (sh.contains("Weihnachtsferien")) holidayTypes.add("Weihnachtsferien");
-                    else if (sh.contains("Winterferien")) holidayTypes.add("Winterferien");
-                    else if (sh.contains("Pfingstferien")) holidayTypes.add("Pfingstferien");
-                }
+        for (WeeklyLoad w : weeklyLoads.subList(period.start(), period.end() + 1)) {
+            for (String sh : w.getActiveSchoolHolidays()) {
+                if (sh.contains("Sommerferien")) holidayTypes.add("Sommerferien");
+                else if (sh.contains("Osterferien")) holidayTypes.add("Osterferien");
+                else if (sh.contains("Herbstferien")) holidayTypes.add("Herbstferien");
+                else if (sh.contains("Weihnachtsferien")) holidayTypes.add("Weihnachtsferien");
+                else if (sh.contains("Winterferien")) holidayTypes.add("Winterferien");
+                else if (sh.contains("Pfingstferien")) holidayTypes.add("Pfingstferien");
             }
         }
 
-        long maxPop = peakWeek.getSchoolHolidayPopulation();
         String description = String.format("Week %d-%d: %.1fM people on %s",
-                peakStartWeek, peakEndWeek,
+                startWeekData.getWeekNumber(), endWeekData.getWeekNumber(),
                 maxPop / 1_000_000.0,
                 String.join(", ", holidayTypes));
 
         PeakPeriod peak = new PeakPeriod();
-        peak.setStartWeek(peakStartWeek);
-        peak.setEndWeek(peakEndWeek);
+        peak.setStartWeek(startWeekData.getWeekNumber());
+        peak.setEndWeek(endWeekData.getWeekNumber());
         peak.setStartDate(startWeekData.getWeekStart());
         peak.setEndDate(endWeekData.getWeekEnd());
         peak.setMaxPopulation(maxPop);
@@ -232,10 +366,29 @@ public class VacationLoadService {
         return peak;
     }
 
-    private static class DailyLoadData {
-        long schoolHolidayPopulation = 0;
-        long publicHolidayPopulation = 0;
-        Set<String> schoolHolidayDetails = new HashSet<>();
-        Set<String> publicHolidayDetails = new HashSet<>();
+    /**
+     * @param population the country's population, or the selected regions' combined population;
+     *                   {@code null} when none is stored
+     */
+    public record CountrySeries(Country country, Long population, VacationLoadEngine engine) {
+
+        public long knownPopulation() {
+            return population != null ? population : 0L;
+        }
+    }
+
+    private record Scope(Country country, List<String> regionCodes, Long population) {
+
+        boolean regional() {
+            return !regionCodes.isEmpty();
+        }
+
+        long knownPopulation() {
+            return population != null ? population : 0L;
+        }
+
+        Long nationalHolidayPopulation() {
+            return regional() ? knownPopulation() : null;
+        }
     }
-}
\ No newline at end of file
+}
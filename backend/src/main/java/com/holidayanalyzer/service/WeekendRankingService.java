@@ -0,0 +1,113 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.WeekendAnalysis;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * Ranks the least crowded upcoming weekends over a set of countries and/or regions.
+ *
+ * The selected series from the {@link DailyLoadSnapshot} are summed into one daily array,
+ * a two-day window slides over every Saturday/Sunday pair, and a max-heap bounded to
+ * {@code count} entries keeps the quietest weekends seen so far.
+ */
+@Service
+public class WeekendRankingService {
+
+    static final int MAX_WEEKS = 104;
+
+    private final DailyLoadSnapshotService snapshotService;
+
+    public WeekendRankingService(DailyLoadSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    /**
+     * @param countries countries to include; all countries when empty and no regions are given
+     * @param regions   regions to include; when given, only these regions are considered
+     * @param weeks     number of upcoming weekends to consider
+     */
+    public List<WeekendAnalysis> findBestWeekends(int count, List<String> countries, List<String> regions, int weeks) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        DailyLoadSnapshot snapshot = snapshotService.getSnapshot();
+
+        // Resolve the scope into the series to sum and the regions to report
+        List<long[]> series = new ArrayList<>();
+        List<String> scopeRegions = new ArrayList<>();
+        long population = 0;
+        if (!regions.isEmpty()) {
+            for (String region : regions) {
+                long[] load = snapshot.regionLoads().get(region);
+                if (load == null) throw new IllegalArgumentException("Region not found: " + region);
+                series.add(load);
+                scopeRegions.add(region);
+                population += snapshot.regionPopulations().get(region);
+            }
+        } else {
+            Collection<String> scopeCountries = countries.isEmpty() ? snapshot.countryLoads().keySet() : countries;
+            for (String country : scopeCountries) {
+                long[] load = snapshot.countryLoads().get(country);
+                if (load == null) throw new IllegalArgumentException("Country not found: " + country);
+                series.add(load);
+                scopeRegions.addAll(snapshot.regionsByCountry().getOrDefault(country, List.of()));
+                population += snapshot.countryPopulations().get(country);
+            }
+        }
+
+        long[] total = new long[snapshot.days()];
+        for (long[] load : series) {
+            for (int i = 0; i < total.length; i++) total[i] += load[i];
+        }
+
+        // Weekend load = average of Saturday and Sunday; ties go to the earlier weekend
+        Comparator<long[]> quietestFirst = Comparator.<long[]>comparingLong(w -> w[1]).thenComparingLong(w -> w[0]);
+        PriorityQueue<long[]> heap = new PriorityQueue<>(count + 1, quietestFirst.reversed());
+        LocalDate firstSaturday = snapshot.startDate().with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        int limit = Math.min(Math.min(weeks, MAX_WEEKS) * 7, snapshot.days() - 1);
+        for (int saturday = snapshot.offset(firstSaturday); saturday + 1 < snapshot.days() && saturday < limit; saturday += 7) {
+            heap.offer(new long[]{saturday, (total[saturday] + total[saturday + 1]) / 2});
+            if (heap.size() > count) heap.poll();
+        }
+
+        List<long[]> ranked = new ArrayList<>(heap);
+        ranked.sort(quietestFirst);
+
+        List<WeekendAnalysis> result = new ArrayList<>(ranked.size());
+        for (long[] weekend : ranked) {
+            int saturday = (int) weekend[0];
+            double percentage = population > 0 ? Math.min(100.0, weekend[1] * 100.0 / population) : 0.0;
+
+            List<String> affectedRegions = new ArrayList<>();
+            for (String region : scopeRegions) {
+                long[] load = snapshot.regionLoads().get(region);
+                if (load[saturday] > 0 || load[saturday + 1] > 0) affectedRegions.add(region);
+            }
+
+            WeekendAnalysis analysis = new WeekendAnalysis();
+            analysis.setStartDate(snapshot.startDate().plusDays(saturday));
+            analysis.setEndDate(snapshot.startDate().plusDays(saturday + 1L));
+            analysis.setLoadPercentage(Math.round(percentage * 10) / 10.0);
+            analysis.setAffectedPopulation(weekend[1]);
+            analysis.setLevel(level(percentage));
+            analysis.setAffectedRegions(affectedRegions);
+            analysis.setCountryCode(regions.isEmpty() && countries.size() == 1 ? countries.get(0) : null);
+            result.add(analysis);
+        }
+        return result;
+    }
+
+    // Same thresholds as the BestWeekends widget
+    static String level(double percentage) {
+        if (percentage < 10) return "very_low";
+        if (percentage < 25) return "low";
+        if (percentage < 50) return "medium";
+        if (percentage < 75) return "high";
+        return "very_high";
+    }
+}
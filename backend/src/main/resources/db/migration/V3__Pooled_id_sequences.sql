@@ -0,0 +1,9 @@
+-- Let Hibernate allocate ids in blocks (pooled-lo, allocationSize = 50) instead of reading
+-- them back after each insert, so inserts can be sent as JDBC batches.
+-- Each nextval reserves the block [value, value + 49]. Plain SQL inserts that fall back to
+-- the column default also take a whole block, so both kinds of writer never collide.
+
+ALTER SEQUENCE countries_id_seq INCREMENT BY 50;
+ALTER SEQUENCE regions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE holidays_id_seq INCREMENT BY 50;
+ALTER SEQUENCE school_holidays_id_seq INCREMENT BY 50;
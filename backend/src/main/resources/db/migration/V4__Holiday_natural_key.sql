@@ -0,0 +1,14 @@
+-- Natural key of a public holiday, used by the diff-based import to upsert with
+-- INSERT ... ON CONFLICT. National holidays have no region, hence COALESCE(region_id, 0).
+
+-- Keep the oldest row of any duplicates left behind by earlier imports
+DELETE FROM holidays h
+USING holidays d
+WHERE h.country_id = d.country_id
+  AND h.date = d.date
+  AND COALESCE(h.region_id, 0) = COALESCE(d.region_id, 0)
+  AND h.english_name = d.english_name
+  AND h.id > d.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_holidays_natural_key
+    ON holidays (country_id, date, COALESCE(region_id, 0), english_name);
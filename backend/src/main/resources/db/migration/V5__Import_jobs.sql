@@ -0,0 +1,38 @@
+-- Background public holiday imports. A job is split into one unit per (country, year);
+-- each unit records its outcome as soon as it finishes, so a job picked up again after a
+-- restart only runs the units that are still PENDING.
+-- claimed_by/heartbeat_at name the instance running the job; a job whose heartbeat is older
+-- than holiday-import.jobs.stale-after is taken over by another instance.
+
+CREATE TABLE IF NOT EXISTS import_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    cancel_requested BOOLEAN NOT NULL DEFAULT FALSE,
+    claimed_by VARCHAR(255),
+    heartbeat_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS import_job_units (
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    country_code VARCHAR(10) NOT NULL,
+    year INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    inserted INTEGER NOT NULL DEFAULT 0,
+    updated INTEGER NOT NULL DEFAULT 0,
+    deleted INTEGER NOT NULL DEFAULT 0,
+    unchanged INTEGER NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    finished_at TIMESTAMP,
+    CONSTRAINT fk_import_job_units_job FOREIGN KEY (job_id) REFERENCES import_jobs(id) ON DELETE CASCADE,
+    CONSTRAINT uk_import_job_units UNIQUE (job_id, country_code, year)
+);
+
+CREATE INDEX IF NOT EXISTS idx_import_jobs_status ON import_jobs(status);
+
+-- Same pooled id allocation as the other tables (V3)
+ALTER SEQUENCE import_jobs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE import_job_units_id_seq INCREMENT BY 50;
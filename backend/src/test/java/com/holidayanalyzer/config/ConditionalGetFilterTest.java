@@ -0,0 +1,111 @@
+package com.holidayanalyzer.config;
+
+import com.holidayanalyzer.service.DataVersion;
+import com.holidayanalyzer.service.HolidayDataChangedEvent;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetFilterTest {
+
+    private final DataVersion dataVersion = new DataVersion();
+    private final ConditionalGetFilter filter = new ConditionalGetFilter(dataVersion, Duration.ofHours(1));
+
+    @Test
+    void answersMatchingIfNoneMatchWithoutCallingTheChain() throws Exception {
+        MockHttpServletResponse first = perform(null);
+        String etag = first.getHeader("ETag");
+        assertEquals(200, first.getStatus());
+        assertNotNull(etag);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request(etag), second, chain);
+        assertEquals(304, second.getStatus());
+        assertNull(chain.getRequest());
+
+        dataVersion.onHolidayDataChanged(HolidayDataChangedEvent.country("DE"));
+        MockHttpServletResponse afterWrite = perform(etag);
+        assertEquals(200, afterWrite.getStatus());
+        assertNotEquals(etag, afterWrite.getHeader("ETag"));
+    }
+
+    @Test
+    void errorResponsesCarryNoEtag() throws Exception {
+        MockHttpServletResponse notFound = new MockHttpServletResponse();
+        filter.doFilter(request(null), notFound, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setStatus(404);
+                resp.getWriter().write("{\"error\":\"Country not found\"}");
+            }
+        }));
+        assertEquals(404, notFound.getStatus());
+        assertNull(notFound.getHeader("ETag"));
+
+        MockHttpServletResponse badRequest = new MockHttpServletResponse();
+        filter.doFilter(request(null), badRequest, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.sendError(400);
+            }
+        }));
+        assertNull(badRequest.getHeader("ETag"));
+        assertNull(badRequest.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void streamedSuccessCarriesEtag() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(null), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.getOutputStream().write("{}".getBytes());
+                resp.flushBuffer();
+            }
+        }));
+        assertEquals(200, response.getStatus());
+        assertNotNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void skipsAdminAndWriteRequests() throws Exception {
+        MockHttpServletRequest admin = new MockHttpServletRequest("GET", "/api/admin/cache/vacation-load");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(admin, response, new MockFilterChain());
+        assertNull(response.getHeader("ETag"));
+
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/countries");
+        response = new MockHttpServletResponse();
+        filter.doFilter(post, response, new MockFilterChain());
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void comparesWeaklyAgainstEveryListedTag() {
+        assertTrue(ConditionalGetFilter.matches("\"a\", W/\"b\"", "\"b\""));
+        assertTrue(ConditionalGetFilter.matches("*", "\"b\""));
+        assertFalse(ConditionalGetFilter.matches("\"a\"", "\"b\""));
+    }
+
+    private MockHttpServletResponse perform(String ifNoneMatch) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(ifNoneMatch), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/countries");
+        if (ifNoneMatch != null) request.addHeader("If-None-Match", ifNoneMatch);
+        return request;
+    }
+}
@@ -0,0 +1,61 @@
+package com.holidayanalyzer.config;
+
+import com.holidayanalyzer.config.SeedDataLoader.SeedCounts;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seed;MODE=PostgreSQL;NON_KEYWORDS=YEAR",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(SeedDataLoader.class)
+class SeedDataLoaderTest {
+
+    @Autowired
+    private SeedDataLoader seedDataLoader;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private SchoolHolidayRepository schoolHolidayRepository;
+
+    @Test
+    void loadsAllSeedRowsWithResolvedReferences() {
+        SeedCounts counts = seedDataLoader.load();
+
+        assertEquals(48, counts.countries());
+        assertEquals(144, counts.regions());
+        assertEquals(547, counts.schoolHolidays());
+        assertEquals(counts.countries(), countryRepository.count());
+        assertEquals(counts.regions(), regionRepository.count());
+        assertEquals(counts.schoolHolidays(), schoolHolidayRepository.count());
+
+        assertEquals(13_100_000L, regionRepository.findByCode("DE-BY").orElseThrow().getPopulation());
+        assertEquals("DE", regionRepository.findByCode("DE-BY").orElseThrow().getCountry().getCode());
+        List<SchoolHoliday> bavaria = schoolHolidayRepository.findByRegionCodeAndYear("DE-BY", 2026);
+        assertTrue(bavaria.stream().anyMatch(sh -> sh.getName().equals("Sommerferien")
+                && sh.getStartDate().isAfter(LocalDate.of(2026, 6, 30))));
+    }
+}
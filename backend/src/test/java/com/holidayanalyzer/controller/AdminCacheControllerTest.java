@@ -0,0 +1,57 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.dto.VacationLoadResponse;
+import com.holidayanalyzer.service.DataVersion;
+import com.holidayanalyzer.service.VacationLoadCache;
+import com.holidayanalyzer.service.VacationLoadService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdminCacheControllerTest {
+
+    private final VacationLoadService vacationLoadService = mock(VacationLoadService.class);
+    private final VacationLoadCache cache = new VacationLoadCache(vacationLoadService, new DataVersion(), 10,
+            Duration.ofMinutes(10));
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AdminCacheController(cache)).build();
+
+    @Test
+    void clearDropsAllEntries() throws Exception {
+        when(vacationLoadService.calculateVacationLoad("DE", List.of(), 2026)).thenAnswer(invocation -> response());
+        cache.getVacationLoad("DE", List.of(), 2026);
+        cache.getVacationLoad("DE", List.of(), 2026);
+
+        mockMvc.perform(get("/api/admin/cache/vacation-load"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.hits").value(1));
+
+        mockMvc.perform(delete("/api/admin/cache/vacation-load")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/admin/cache/vacation-load"))
+                .andExpect(jsonPath("$.size").value(0))
+                .andExpect(jsonPath("$.invalidations").value(1));
+        cache.getVacationLoad("DE", List.of(), 2026);
+        verify(vacationLoadService, times(2)).calculateVacationLoad("DE", List.of(), 2026);
+    }
+
+    private static VacationLoadResponse response() {
+        VacationLoadResponse response = new VacationLoadResponse();
+        response.setYear(2026);
+        response.setWeeklyLoads(List.of());
+        response.setDailyLoads(List.of());
+        return response;
+    }
+}
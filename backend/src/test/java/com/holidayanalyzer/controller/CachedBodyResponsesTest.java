@@ -0,0 +1,54 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.service.ResponseBodyCache.CachedBody;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedBodyResponsesTest {
+
+    @Test
+    void parsesCodingsAndQualities() {
+        assertTrue(CachedBodyResponses.acceptsGzip("gzip"));
+        assertTrue(CachedBodyResponses.acceptsGzip("deflate, GZIP;q=0.5, br"));
+        assertTrue(CachedBodyResponses.acceptsGzip("br;q=1.0, *;q=0.1"));
+        assertFalse(CachedBodyResponses.acceptsGzip(null));
+        assertFalse(CachedBodyResponses.acceptsGzip("gzip;q=0"));
+        assertFalse(CachedBodyResponses.acceptsGzip("br, gzip ; q=0.000"));
+        assertFalse(CachedBodyResponses.acceptsGzip("gzip;q=0, *"));
+        assertFalse(CachedBodyResponses.acceptsGzip("identity, notgzip"));
+    }
+
+    @Test
+    void matchingIsLocaleIndependent() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // Lower-casing "I" in a Turkish locale yields a dotless i
+            assertTrue(CachedBodyResponses.acceptsGzip("GZIP"));
+            assertTrue(CachedBodyResponses.acceptsGzip("X-GZIP"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void refusedGzipGetsThePlainBody() {
+        CachedBody body = new CachedBody(new byte[]{'{', '}'}, new byte[]{31, -117});
+
+        ResponseEntity<byte[]> response = CachedBodyResponses.of(body, "gzip;q=0, identity");
+
+        assertArrayEquals(body.json(), response.getBody());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals("gzip", CachedBodyResponses.of(body, "gzip").getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+}
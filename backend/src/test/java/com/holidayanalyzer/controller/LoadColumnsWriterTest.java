@@ -0,0 +1,60 @@
+package com.holidayanalyzer.controller;
+
+import com.holidayanalyzer.service.VacationLoadEngine;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadColumnsWriterTest {
+
+    @Test
+    void roundTripsThreeYearSeriesInAFewBytesPerDay() throws Exception {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        VacationLoadEngine engine = new VacationLoadEngine(start, LocalDate.of(2027, 12, 31));
+        engine.addSchoolHoliday(LocalDate.of(2025, 7, 31), LocalDate.of(2025, 9, 15), 13_400_000L, "Bayern: Sommerferien");
+        engine.addSchoolHoliday(LocalDate.of(2026, 7, 2), LocalDate.of(2026, 8, 14), 18_100_000L, "NRW: Sommerferien");
+        engine.addPublicHoliday(LocalDate.of(2026, 10, 3), 83_240_000L, "Tag der Deutschen Einheit");
+
+        byte[] encoded = LoadColumnsWriter.encode(engine, 83_240_000L);
+        assertTrue(encoded.length < 2 * engine.getDays() + 64);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(encoded);
+        assertArrayEquals(new byte[]{'H', 'L', 'C', 1}, in.readNBytes(4));
+        assertEquals(start.toEpochDay(), unzigzag(readVarint(in)));
+        int days = (int) readVarint(in);
+        assertEquals(engine.getDays(), days);
+        assertEquals(83_240_000L, readVarint(in));
+
+        long[] school = new long[days];
+        long running = 0;
+        for (int i = 0; i < days; i++) {
+            running += unzigzag(readVarint(in));
+            school[i] = running;
+        }
+        long[] pub = new long[days];
+        for (int i = 0; i < days; i++) {
+            pub[i] = readVarint(in);
+        }
+        assertEquals(0, in.available());
+        assertArrayEquals(engine.schoolHolidayPopulation(), school);
+        assertArrayEquals(engine.publicHolidayPopulation(), pub);
+    }
+
+    private static long readVarint(ByteArrayInputStream in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.read();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.holidayanalyzer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.service.PersonDaysIndex;
+import com.holidayanalyzer.service.VacationLoadAggregationService;
+import com.holidayanalyzer.service.VacationLoadCache;
+import com.holidayanalyzer.service.VacationLoadEngine;
+import com.holidayanalyzer.service.VacationLoadService;
+import com.holidayanalyzer.service.VacationLoadService.CountrySeries;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class VacationLoadControllerTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 10, 2);
+    private static final LocalDate END = LocalDate.of(2026, 10, 4);
+
+    private final VacationLoadService vacationLoadService = mock(VacationLoadService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new VacationLoadController(
+            mock(VacationLoadCache.class), vacationLoadService, mock(VacationLoadAggregationService.class),
+            mock(PersonDaysIndex.class), new ObjectMapper())).build();
+
+    @Test
+    void streamsOneJsonObjectPerDay() throws Exception {
+        VacationLoadEngine engine = new VacationLoadEngine(START, END);
+        engine.addSchoolHoliday(LocalDate.of(2026, 9, 28), LocalDate.of(2026, 10, 2), 500L, "Bayern: Herbstferien");
+        engine.addPublicHoliday(LocalDate.of(2026, 10, 3), 1_000L, "Tag der Deutschen Einheit");
+        Country germany = new Country("DE", "Deutschland", 1_000L);
+        when(vacationLoadService.calculateSeries("DE", List.of(), START, END))
+                .thenReturn(new CountrySeries(germany, 1_000L, engine));
+
+        String body = stream()
+                .andExpect(header().string("Content-Type", DailyLoadNdjsonWriter.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().string("X-Country-Population", "1000"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("""
+                {"date":"2026-10-02","schoolHolidayPopulation":500,"publicHolidayPopulation":0,"totalPopulation":500}
+                {"date":"2026-10-03","schoolHolidayPopulation":0,"publicHolidayPopulation":1000,"totalPopulation":1000}
+                {"date":"2026-10-04","schoolHolidayPopulation":0,"publicHolidayPopulation":0,"totalPopulation":0}
+                """, body);
+    }
+
+    @Test
+    void unknownPopulationOmitsTheHeader() throws Exception {
+        Country unknown = new Country("DE", "Deutschland", null);
+        when(vacationLoadService.calculateSeries("DE", List.of(), START, END))
+                .thenReturn(new CountrySeries(unknown, null, new VacationLoadEngine(START, END)));
+
+        stream().andExpect(header().doesNotExist("X-Country-Population"));
+    }
+
+    private ResultActions stream() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/vacation-load")
+                        .param("startDate", START.toString())
+                        .param("endDate", END.toString())
+                        .accept(DailyLoadNdjsonWriter.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+    }
+}
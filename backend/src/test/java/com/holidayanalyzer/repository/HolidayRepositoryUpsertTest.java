@@ -0,0 +1,105 @@
+package com.holidayanalyzer.repository;
+
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Runs {@link HolidayRepository#upsertAll} against PostgreSQL with the Flyway schema, as its
+ * conflict target is the V4 expression index, which H2 supports in neither the index nor the
+ * ON CONFLICT clause. Skipped where no Docker daemon is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.flyway.enabled=true")
+class HolidayRepositoryUpsertTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Country country;
+    private Region region;
+
+    @BeforeEach
+    void setUp() {
+        country = countryRepository.saveAndFlush(new Country("XQ", "Testland", 1_000L));
+        region = new Region();
+        region.setCode("XQ-A");
+        region.setName("Region A");
+        region.setPopulation(400L);
+        region.setCountry(country);
+        region = regionRepository.saveAndFlush(region);
+    }
+
+    @Test
+    void insertsUpdatesAndSkipsByNaturalKey() {
+        LocalDate date = LocalDate.of(2026, 5, 1);
+        holidayRepository.upsertAll(List.of(holiday(date, null, "Tag der Arbeit"), holiday(date, region, "Tag der Arbeit")));
+        List<String> inserted = rowVersions();
+        assertEquals(2, inserted.size());
+
+        // Unchanged rows are left alone, the national one included despite its null region;
+        // their row versions (ctid) show that
+        holidayRepository.upsertAll(List.of(holiday(date, null, "Tag der Arbeit"), holiday(date, region, "Tag der Arbeit")));
+        assertEquals(inserted, rowVersions());
+
+        holidayRepository.upsertAll(List.of(
+                holiday(date, null, "Erster Mai"), holiday(LocalDate.of(2026, 5, 14), null, "Himmelfahrt")));
+
+        assertEquals(List.of("Erster Mai", "Tag der Arbeit", "Himmelfahrt"), jdbcTemplate.queryForList(
+                "SELECT local_name FROM holidays WHERE country_code = 'XQ' ORDER BY date, region_id NULLS FIRST",
+                String.class));
+        List<String> updated = rowVersions();
+        assertNotEquals(inserted.get(0), updated.get(0));
+        assertEquals(inserted.get(1), updated.get(1));
+    }
+
+    private List<String> rowVersions() {
+        return jdbcTemplate.queryForList(
+                "SELECT ctid::text FROM holidays WHERE country_code = 'XQ' ORDER BY date, region_id NULLS FIRST",
+                String.class);
+    }
+
+    private Holiday holiday(LocalDate date, Region region, String localName) {
+        Holiday h = new Holiday();
+        h.setCountry(country);
+        h.setCountryCode("XQ");
+        h.setRegion(region);
+        h.setDate(date);
+        h.setLocalName(localName);
+        h.setEnglishName("Labour Day");
+        h.setGlobalHoliday(region == null);
+        h.setTypes("Public");
+        h.setYear(date.getYear());
+        return h;
+    }
+}
@@ -0,0 +1,51 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.service.CalendarExpression.Kind;
+import com.holidayanalyzer.service.CalendarExpression.Operand;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CalendarExpressionTest {
+
+    private final Map<Operand, BitSet> calendars = Map.of(
+            new Operand("DE-NW", Kind.BOTH, false), bits(0, 1, 2, 3),
+            new Operand("NL", Kind.BOTH, false), bits(2, 3, 4, 5),
+            new Operand("AT", Kind.BOTH, true), bits(3),
+            new Operand("CH", Kind.PUBLIC, false), bits(9));
+
+    @Test
+    void evaluatesOperatorsWithPrecedence() {
+        assertEquals(bits(2, 3), evaluate("DE-NW & NL"));
+        assertEquals(bits(2, 3), evaluate("de-nw and nl"));
+        assertEquals(bits(0, 1, 2, 3, 4, 5, 9), evaluate("DE-NW | NL | CH:public"));
+        assertEquals(bits(0, 1), evaluate("DE-NW - NL"));
+        assertEquals(bits(3, 9), evaluate("all(AT) | CH:public & !NL"));
+        assertEquals(bits(6, 7, 8), evaluate("not (DE-NW or NL or CH:public)"));
+    }
+
+    @Test
+    void collectsOperandsAndRejectsMalformedInput() {
+        assertEquals(List.of(new Operand("DE-NW", Kind.BOTH, false), new Operand("AT", Kind.BOTH, true)),
+                CalendarExpression.parse("DE-NW & all(AT)").operands());
+        assertThrows(IllegalArgumentException.class, () -> CalendarExpression.parse("DE-NW &"));
+        assertThrows(IllegalArgumentException.class, () -> CalendarExpression.parse("(NL"));
+        assertThrows(IllegalArgumentException.class, () -> CalendarExpression.parse("NL:winter"));
+        assertThrows(IllegalArgumentException.class, () -> CalendarExpression.parse("NL NL"));
+    }
+
+    private BitSet evaluate(String expression) {
+        return CalendarExpression.parse(expression).evaluate(10, calendars::get);
+    }
+
+    private static BitSet bits(int... days) {
+        BitSet bits = new BitSet();
+        for (int day : days) bits.set(day);
+        return bits;
+    }
+}
@@ -0,0 +1,39 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+
+import java.time.LocalDate;
+
+/**
+ * Unsaved entities for the index tests, with only the fields the indexes read.
+ */
+final class HolidayFixtures {
+
+    private HolidayFixtures() {
+    }
+
+    static Region region(Country country, String code, Long population) {
+        Region region = new Region();
+        region.setCode(code);
+        region.setName(code);
+        region.setPopulation(population);
+        region.setCountry(country);
+        return region;
+    }
+
+    /** A national holiday when {@code region} is null. */
+    static Holiday holiday(Country country, String name, LocalDate date, Region region) {
+        Holiday h = new Holiday();
+        h.setCountry(country);
+        h.setCountryCode(country.getCode());
+        h.setRegion(region);
+        h.setDate(date);
+        h.setLocalName(name);
+        h.setEnglishName(name);
+        h.setGlobalHoliday(region == null);
+        h.setYear(date.getYear());
+        return h;
+    }
+}
@@ -0,0 +1,65 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.HolidayImportResult;
+import com.holidayanalyzer.dto.HolidayImportSummary;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.repository.CountryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HolidayImportOrchestratorTest {
+
+    private static final long LATENCY_MILLIS = 200;
+
+    private final HolidayImportService importService = mock(HolidayImportService.class);
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    void importsAllCountriesConcurrentlyWithinTheLimit() {
+        List<Country> countries = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Country country = new Country();
+            country.setCode("C" + i);
+            countries.add(country);
+        }
+        when(countryRepository.findAll()).thenReturn(countries);
+        when(importService.importPublicHolidays(anyString(), anyInt())).thenAnswer(invocation -> {
+            String countryCode = invocation.getArgument(0);
+            int year = invocation.getArgument(1);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(LATENCY_MILLIS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            if (countryCode.equals("C3")) {
+                throw new IllegalStateException("Nager.Date returned 404");
+            }
+            return new HolidayImportResult(countryCode, year, 10, 10, 0, 0, 0);
+        });
+
+        HolidayImportSummary summary = new HolidayImportOrchestrator(importService, countryRepository, 8)
+                .importAll(null, List.of(2026, 2027));
+
+        assertEquals(22, summary.getSucceeded());
+        assertEquals(2, summary.getFailed());
+        assertEquals(220, summary.getInserted());
+        assertEquals("C3", summary.getFailures().get(0).countryCode());
+        assertEquals("Nager.Date returned 404", summary.getFailures().get(0).error());
+        assertEquals(8, maxInFlight.get());
+        // 24 imports, 8 at a time: three rounds instead of 24 sequential ones
+        assertTrue(summary.getDurationMillis() < 8 * LATENCY_MILLIS, "took " + summary.getDurationMillis() + " ms");
+    }
+}
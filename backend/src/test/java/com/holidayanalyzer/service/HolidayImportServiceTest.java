@@ -0,0 +1,147 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.HolidayImportResult;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.service.HolidayImportService.NagerPublicHolidayDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class HolidayImportServiceTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private final HolidayRepository holidayRepository = mock(HolidayRepository.class);
+    private final RegionRepository regionRepository = mock(RegionRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final DataVersion dataVersion = new DataVersion();
+
+    private final HolidayImportService service = new HolidayImportService(restTemplate, countryRepository,
+            holidayRepository, regionRepository, eventPublisher, mock(PlatformTransactionManager.class), dataVersion);
+
+    private Country germany;
+    private Region bavaria;
+
+    @BeforeEach
+    void setUp() {
+        germany = new Country();
+        germany.setId(1L);
+        germany.setCode("DE");
+        germany.setPopulation(83_000_000L);
+
+        bavaria = new Region();
+        bavaria.setId(9L);
+        bavaria.setCode("DE-BY");
+        bavaria.setPopulation(13_000_000L);
+        bavaria.setCountry(germany);
+
+        when(countryRepository.findByCode("DE")).thenReturn(Optional.of(germany));
+        when(regionRepository.findByCodeIn(anyCollection())).thenReturn(List.of(bavaria));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesOnlyTheDifference() {
+        nagerReturns(
+                dto("2026-01-01", "Neujahr", "New Year's Day", null),
+                dto("2026-01-06", "Heilige Drei Könige", "Epiphany", "DE-BY"),
+                dto("2026-10-03", "Tag der Deutschen Einheit", "German Unity Day", null));
+        Holiday newYear = stored(101L, "2026-01-01", "Neujahr", "New Year's Day", null);
+        Holiday epiphany = stored(102L, "2026-01-06", "Dreikönigstag", "Epiphany", bavaria);
+        Holiday stale = stored(103L, "2026-11-18", "Buß- und Bettag", "Repentance and Prayer Day", null);
+        when(holidayRepository.findByCountryCodeAndYear("DE", 2026)).thenReturn(List.of(newYear, epiphany, stale));
+
+        HolidayImportResult result = service.importPublicHolidays("DE", 2026);
+
+        assertEquals(3, result.getFetched());
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getDeleted());
+        assertEquals(1, result.getUnchanged());
+        verify(holidayRepository).deleteAllByIdInBatch(List.of(103L));
+        ArgumentCaptor<Collection<Holiday>> upserts = ArgumentCaptor.forClass(Collection.class);
+        verify(holidayRepository).upsertAll(upserts.capture());
+        assertEquals(List.of("Heilige Drei Könige", "Tag der Deutschen Einheit"),
+                upserts.getValue().stream().map(Holiday::getLocalName).toList());
+        verify(eventPublisher).publishEvent(HolidayDataChangedEvent.year("DE", 2026));
+    }
+
+    @Test
+    void unchangedImportWritesNothing() {
+        nagerReturns(dto("2026-01-06", "Heilige Drei Könige", "Epiphany", "DE-BY"));
+        when(holidayRepository.findByCountryCodeAndYear("DE", 2026))
+                .thenReturn(List.of(stored(102L, "2026-01-06", "Heilige Drei Könige", "Epiphany", bavaria)));
+
+        HolidayImportResult result = service.importPublicHolidays("DE", 2026);
+
+        assertEquals(0, result.getChanged());
+        assertEquals(1, result.getUnchanged());
+        verify(holidayRepository, never()).deleteAllByIdInBatch(any());
+        verify(holidayRepository).upsertAll(List.of());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void insertsAndDeletesArePublishedAsExactLoadChanges() {
+        nagerReturns(dto("2026-01-06", "Heilige Drei Könige", "Epiphany", "DE-BY"));
+        when(holidayRepository.findByCountryCodeAndYear("DE", 2026))
+                .thenReturn(List.of(stored(103L, "2026-11-18", "Buß- und Bettag", "Repentance and Prayer Day", null)));
+
+        service.importPublicHolidays("DE", 2026);
+
+        verify(eventPublisher).publishEvent(new HolidayDataChangedEvent("DE", 2026, List.of(
+                new HolidayDataChangedEvent.LoadChange(false, LocalDate.of(2026, 1, 6), LocalDate.of(2026, 1, 6), 13_000_000L),
+                new HolidayDataChangedEvent.LoadChange(false, LocalDate.of(2026, 11, 18), LocalDate.of(2026, 11, 18), -83_000_000L)),
+                dataVersion.current()));
+    }
+
+    private void nagerReturns(NagerPublicHolidayDto... holidays) {
+        when(restTemplate.getForObject(anyString(), eq(NagerPublicHolidayDto[].class), eq(2026), eq("DE")))
+                .thenReturn(holidays);
+    }
+
+    private static NagerPublicHolidayDto dto(String date, String localName, String name, String county) {
+        NagerPublicHolidayDto dto = new NagerPublicHolidayDto();
+        dto.setDate(date);
+        dto.setLocalName(localName);
+        dto.setName(name);
+        dto.setCountryCode("DE");
+        dto.setGlobal(county == null);
+        dto.setTypes(new String[]{"Public"});
+        dto.setCounties(county != null ? new String[]{county} : null);
+        return dto;
+    }
+
+    private Holiday stored(Long id, String date, String localName, String englishName, Region region) {
+        Holiday h = new Holiday();
+        h.setId(id);
+        h.setCountry(germany);
+        h.setCountryCode("DE");
+        h.setDate(LocalDate.parse(date));
+        h.setLocalName(localName);
+        h.setEnglishName(englishName);
+        h.setGlobalHoliday(region == null);
+        h.setTypes("Public");
+        h.setRegion(region);
+        h.setYear(2026);
+        return h;
+    }
+}
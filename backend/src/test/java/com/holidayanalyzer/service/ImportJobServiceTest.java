@@ -0,0 +1,182 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.HolidayImportResult;
+import com.holidayanalyzer.dto.ImportJobResponse;
+import com.holidayanalyzer.dto.ImportJobResponse.CountryProgress;
+import com.holidayanalyzer.model.ImportJob;
+import com.holidayanalyzer.model.ImportJobUnit;
+import com.holidayanalyzer.repository.ImportJobRepository;
+import com.holidayanalyzer.repository.ImportJobUnitRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs import jobs against an in-memory database with the Nager.Date import mocked. The jobs
+ * commit from their worker threads, hence no test-managed transaction.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:import-jobs;NON_KEYWORDS=YEAR",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "holiday-import.parallelism=1",
+        "holiday-import.jobs.instance-id=test-pod"
+})
+@Import({ImportJobService.class, HolidayImportOrchestrator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImportJobServiceTest {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ImportJobRepository jobRepository;
+
+    @Autowired
+    private ImportJobUnitRepository unitRepository;
+
+    @MockBean
+    private HolidayImportService holidayImportService;
+
+    @Test
+    void recordsProgressAndErrorsPerCountry() {
+        when(holidayImportService.importPublicHolidays(anyString(), anyInt())).thenAnswer(invocation ->
+                new HolidayImportResult(invocation.getArgument(0), invocation.getArgument(1), 10, 10, 0, 0, 0));
+        when(holidayImportService.importPublicHolidays("AT", 2027))
+                .thenThrow(new IllegalStateException("Nager.Date returned 404"));
+
+        ImportJobResponse queued = importJobService.submit(List.of("DE", "AT"), List.of(2026, 2027));
+        assertEquals(4, queued.getTotal().getPending());
+
+        ImportJobResponse job = awaitFinished(queued.getId());
+
+        assertEquals(ImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getTotal().getSucceeded());
+        assertEquals(1, job.getTotal().getFailed());
+        assertEquals(30, job.getTotal().getInserted());
+        CountryProgress austria = job.getCountries().stream()
+                .filter(c -> c.getCountryCode().equals("AT")).findFirst().orElseThrow();
+        assertEquals(List.of(new ImportJobResponse.UnitError(2027, "Nager.Date returned 404")), austria.getErrors());
+    }
+
+    @Test
+    void resumesOnlyUnfinishedUnitsOfAStaleJob() {
+        when(holidayImportService.importPublicHolidays(anyString(), anyInt())).thenAnswer(invocation ->
+                new HolidayImportResult(invocation.getArgument(0), invocation.getArgument(1), 5, 5, 0, 0, 0));
+        ImportJob orphaned = new ImportJob();
+        orphaned.setStatus(ImportJob.Status.RUNNING);
+        orphaned.setClaimedBy("crashed-pod");
+        orphaned.setCreatedAt(LocalDateTime.now().minusMinutes(30));
+        orphaned.setHeartbeatAt(LocalDateTime.now().minusMinutes(10));
+        jobRepository.save(orphaned);
+        ImportJobUnit done = new ImportJobUnit(orphaned, "FR", 2026);
+        done.setStatus(ImportJobUnit.Status.SUCCEEDED);
+        unitRepository.saveAll(List.of(done, new ImportJobUnit(orphaned, "FR", 2027)));
+
+        importJobService.sweep();
+        ImportJobResponse job = awaitFinished(orphaned.getId());
+
+        assertEquals(ImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getTotal().getSucceeded());
+        verify(holidayImportService).importPublicHolidays("FR", 2027);
+        verify(holidayImportService, never()).importPublicHolidays(eq("FR"), eq(2026));
+    }
+
+    @Test
+    void cancellingSkipsUnitsNotStartedYet() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(holidayImportService.importPublicHolidays(anyString(), anyInt())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new HolidayImportResult(invocation.getArgument(0), invocation.getArgument(1), 1, 1, 0, 0, 0);
+        });
+
+        ImportJobResponse queued = importJobService.submit(List.of("BE", "NL", "LU"), List.of(2026));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertTrue(importJobService.cancel(queued.getId()).orElseThrow().isCancelRequested());
+        release.countDown();
+
+        ImportJobResponse job = awaitFinished(queued.getId());
+
+        // parallelism=1: only the unit already in flight ran
+        assertEquals(ImportJob.Status.CANCELLED, job.getStatus());
+        assertEquals(1, job.getTotal().getSucceeded());
+        assertEquals(2, job.getTotal().getCancelled());
+    }
+
+    @Test
+    void jobTakenOverByAnotherInstanceIsLeftToIt() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(holidayImportService.importPublicHolidays(anyString(), anyInt())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new HolidayImportResult(invocation.getArgument(0), invocation.getArgument(1), 1, 1, 0, 0, 0);
+        });
+
+        ImportJobResponse queued = importJobService.submit(List.of("CZ", "PL", "SK"), List.of(2026));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        // This instance's heartbeat went stale and another one claimed the job
+        ImportJob job = jobRepository.findById(queued.getId()).orElseThrow();
+        job.setClaimedBy("other-pod");
+        jobRepository.save(job);
+        importJobService.sweep();
+        release.countDown();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (unitRepository.findByJobIdAndStatus(queued.getId(), ImportJobUnit.Status.SUCCEEDED).isEmpty()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        // Give the worker time to (not) finish the job
+        Thread.sleep(200);
+
+        ImportJobResponse after = importJobService.getJob(queued.getId()).orElseThrow();
+        assertEquals(ImportJob.Status.RUNNING, after.getStatus());
+        assertEquals(1, after.getTotal().getSucceeded());
+        assertEquals(2, after.getTotal().getPending());
+        assertEquals("other-pod", jobRepository.findById(queued.getId()).orElseThrow().getClaimedBy());
+    }
+
+    private ImportJobResponse awaitFinished(Long jobId) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            ImportJobResponse job = importJobService.getJob(jobId).orElseThrow();
+            if (job.getStatus().isFinished()) {
+                return job;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return fail("Import job " + jobId + " did not finish");
+    }
+}
@@ -0,0 +1,71 @@
+package com.holidayanalyzer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaveOptimizerTest {
+
+    @Test
+    void bestPlanMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int run = 0; run < 200; run++) {
+            int days = 60 + random.nextInt(60);
+            BitSet workdays = new BitSet(days);
+            for (int i = 0; i < days; i++) {
+                if (i % 7 < 5 && random.nextInt(12) != 0) workdays.set(i);
+            }
+            int from = random.nextInt(10);
+            int to = days - 1 - random.nextInt(10);
+            int budget = 1 + random.nextInt(8);
+
+            List<LeaveOptimizer.Plan> plans = LeaveOptimizer.optimize(workdays, days, from, to, budget, null, 0, 3);
+
+            assertEquals(bruteForceLongest(workdays, days, from, to, budget), plans.get(0).length());
+            for (int i = 1; i < plans.size(); i++) {
+                assertTrue(plans.get(i).length() <= plans.get(i - 1).length());
+            }
+            for (LeaveOptimizer.Plan a : plans) {
+                for (LeaveOptimizer.Plan b : plans) {
+                    assertTrue(a == b || a.end() < b.start() || b.end() < a.start());
+                }
+            }
+        }
+    }
+
+    @Test
+    void bridgeDayBeatsPlainWeek() {
+        // Mon..Sun x3, Thursday of week 2 is a public holiday
+        BitSet workdays = new BitSet(21);
+        for (int i = 0; i < 21; i++) {
+            if (i % 7 < 5 && i != 10) workdays.set(i);
+        }
+
+        LeaveOptimizer.Plan plan = LeaveOptimizer.optimize(workdays, 21, 0, 20, 1, null, 0, 1).get(0);
+
+        assertEquals(10, plan.start());
+        assertEquals(13, plan.end());
+        assertEquals(1, plan.leaveDays());
+    }
+
+    private int bruteForceLongest(BitSet workdays, int days, int from, int to, int budget) {
+        int best = 0;
+        for (int s = 0; s < days; s++) {
+            int leave = 0;
+            for (int e = s; e < days; e++) {
+                if (workdays.get(e)) {
+                    if (e < from || e > to) break;
+                    leave++;
+                }
+                if (leave > budget) break;
+                if (leave > 0) best = Math.max(best, e - s + 1);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,43 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.service.LoadPeriodDetector.Detection;
+import com.holidayanalyzer.service.LoadPeriodDetector.Period;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoadPeriodDetectorTest {
+
+    @Test
+    void findsEveryWaveAndQuietestRuns() {
+        long[] series = {0, 0, 5, 9, 5, 0, 0, 0, 0, 2, 8, 8, 1, 0, 7, 0};
+
+        Detection detection = LoadPeriodDetector.detect(series, 5, 0, 1, 3);
+
+        assertEquals(List.of(new Period(2, 4, 3, 9, 19), new Period(10, 11, 10, 8, 16), new Period(14, 14, 14, 7, 7)),
+                detection.peaks());
+        assertEquals(List.of(new Period(0, 1, 0, 0, 0), new Period(5, 8, 5, 0, 0), new Period(13, 13, 13, 0, 0)),
+                detection.troughs());
+    }
+
+    @Test
+    void troughsReportTheirLowestDay() {
+        long[] series = {9, 3, 1, 2, 1, 9};
+
+        Detection detection = LoadPeriodDetector.detect(series, 9, 3, 1, 1);
+
+        assertEquals(List.of(new Period(1, 4, 2, 3, 7)), detection.troughs());
+    }
+
+    @Test
+    void honoursMinimumLengthAndCount() {
+        long[] series = {0, 0, 5, 9, 5, 0, 0, 0, 0, 2, 8, 8, 1, 0, 7, 0};
+
+        Detection detection = LoadPeriodDetector.detect(series, 5, 0, 2, 1);
+
+        assertEquals(List.of(new Period(2, 4, 3, 9, 19)), detection.peaks());
+        assertEquals(List.of(new Period(5, 8, 5, 0, 0)), detection.troughs());
+    }
+}
@@ -0,0 +1,148 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.HolidayView;
+import com.holidayanalyzer.dto.PersonDaysResponse;
+import com.holidayanalyzer.dto.SchoolHolidayView;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import com.holidayanalyzer.service.HolidayDataChangedEvent.LoadChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.holidayanalyzer.service.HolidayFixtures.holiday;
+import static com.holidayanalyzer.service.HolidayFixtures.region;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PersonDaysIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 12, 31);
+
+    private final SchoolHolidayRepository schoolHolidayRepository = mock(SchoolHolidayRepository.class);
+    private final HolidayRepository holidayRepository = mock(HolidayRepository.class);
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private final DataVersion dataVersion = new DataVersion();
+    private final PersonDaysIndex index = newIndex();
+
+    private final List<Holiday> holidays = new ArrayList<>();
+    private Country germany;
+    private Region bavaria;
+    private Region unknownPopulation;
+
+    @BeforeEach
+    void setUp() {
+        germany = new Country("DE", "Deutschland", 83_000_000L);
+        bavaria = region(germany, "DE-BY", 13_000_000L);
+        unknownPopulation = region(germany, "DE-XX", null);
+
+        SchoolHoliday summer = new SchoolHoliday();
+        summer.setName("Sommerferien");
+        summer.setStartDate(LocalDate.of(2026, 8, 3));
+        summer.setEndDate(LocalDate.of(2026, 9, 14));
+        summer.setYear(2026);
+        summer.setRegion(bavaria);
+
+        holidays.add(holiday(germany, "Tag der Deutschen Einheit", LocalDate.of(2026, 10, 3), null));
+        holidays.add(holiday(germany, "Heilige Drei Könige", LocalDate.of(2026, 1, 6), bavaria));
+
+        when(countryRepository.findByCode("DE")).thenReturn(Optional.of(germany));
+        when(schoolHolidayRepository.findViewsByCountryCode("DE")).thenReturn(List.of(SchoolHolidayView.of(summer)));
+        when(holidayRepository.findViewsByCountryCode("DE"))
+                .thenAnswer(invocation -> holidays.stream().map(HolidayView::of).toList());
+    }
+
+    @Test
+    void incrementalUpdatesMatchARebuild() {
+        index.query("DE", START, END);
+
+        // Admin adds a holiday in a region without population and deletes the national one
+        long writeVersion = dataVersion.beginWrite();
+        Holiday added = holiday(germany, "Allerheiligen", LocalDate.of(2026, 11, 1), unknownPopulation);
+        holidays.add(added);
+        publish(publicHolidayEvent(added, 1, writeVersion));
+        writeVersion = dataVersion.beginWrite();
+        Holiday deleted = holidays.remove(0);
+        publish(publicHolidayEvent(deleted, -1, writeVersion));
+
+        PersonDaysResponse incremental = index.query("DE", START, END);
+        PersonDaysResponse rebuilt = newIndex().query("DE", START, END);
+
+        assertEquals(rebuilt.getPublicHolidayPersonDays(), incremental.getPublicHolidayPersonDays());
+        assertEquals(rebuilt.getSchoolHolidayPersonDays(), incremental.getSchoolHolidayPersonDays());
+        assertEquals(13_000_000L + 83_000_000L, incremental.getPublicHolidayPersonDays());
+        // One build for each index: the events were applied, not rebuilt
+        verify(holidayRepository, times(2)).findViewsByCountryCode("DE");
+    }
+
+    @Test
+    void eventDuringBuildIsNotCached() {
+        when(countryRepository.findByCode("DE")).thenAnswer(invocation -> {
+            // A write lands while the index is being built
+            publish(HolidayDataChangedEvent.year("DE", 2026));
+            return Optional.of(germany);
+        });
+
+        index.query("DE", START, END);
+        index.query("DE", START, END);
+
+        verify(holidayRepository, times(2)).findViewsByCountryCode("DE");
+    }
+
+    @Test
+    void writeBegunBeforeTheBuildIsNotAppliedTwice() {
+        // The build reads the committed write, whose event only arrives afterwards
+        long writeVersion = dataVersion.beginWrite();
+        Holiday added = holiday(germany, "Mariä Himmelfahrt", LocalDate.of(2026, 8, 15), bavaria);
+        holidays.add(added);
+        index.query("DE", START, END);
+
+        publish(publicHolidayEvent(added, 1, writeVersion));
+
+        assertEquals(83_000_000L + 2 * 13_000_000L, index.query("DE", START, END).getPublicHolidayPersonDays());
+    }
+
+    @Test
+    void eventOutsideTheIndexedSpanDropsTheIndex() {
+        index.query("DE", START, END);
+        long writeVersion = dataVersion.beginWrite();
+        // The second change lies outside the indexed years, so the whole event drops the index
+        publish(new HolidayDataChangedEvent("DE", 2026, List.of(
+                new LoadChange(false, LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 1), 83_000_000L),
+                new LoadChange(false, LocalDate.of(2030, 5, 1), LocalDate.of(2030, 5, 1), 83_000_000L)), writeVersion));
+
+        // Rebuilt from the repositories, nothing of the event applied
+        assertEquals(83_000_000L + 13_000_000L, index.query("DE", START, END).getPublicHolidayPersonDays());
+        verify(holidayRepository, times(2)).findViewsByCountryCode("DE");
+    }
+
+    private PersonDaysIndex newIndex() {
+        return new PersonDaysIndex(schoolHolidayRepository, holidayRepository, countryRepository, dataVersion,
+                mock(PlatformTransactionManager.class), Duration.ofMinutes(10));
+    }
+
+    private void publish(HolidayDataChangedEvent event) {
+        dataVersion.onHolidayDataChanged(event);
+        index.onHolidayDataChanged(event);
+    }
+
+    private HolidayDataChangedEvent publicHolidayEvent(Holiday h, int sign, long writeVersion) {
+        return HolidayDataChangedEvent.publicHoliday("DE", h.getDate(), sign * HolidayDataChangedEvent.publicHolidayPopulation(
+                h.getRegion() != null ? h.getRegion().getPopulation() : null, germany.getPopulation()), writeVersion);
+    }
+}
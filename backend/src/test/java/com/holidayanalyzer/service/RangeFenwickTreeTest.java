@@ -0,0 +1,32 @@
+package com.holidayanalyzer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RangeFenwickTreeTest {
+
+    @Test
+    void rangeSumsMatchBruteForce() {
+        Random random = new Random(7);
+        int size = 800;
+        RangeFenwickTree tree = new RangeFenwickTree(size);
+        long[] expected = new long[size];
+
+        for (int step = 0; step < 2_000; step++) {
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from);
+            long value = random.nextInt(2_000_000) - 1_000_000;
+            tree.rangeAdd(from, to, value);
+            for (int i = from; i <= to; i++) expected[i] += value;
+
+            int a = random.nextInt(size);
+            int b = a + random.nextInt(size - a);
+            long sum = 0;
+            for (int i = a; i <= b; i++) sum += expected[i];
+            assertEquals(sum, tree.rangeSum(a, b));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.CalendarQueryResponse;
+import com.holidayanalyzer.dto.CalendarQueryResponse.DateRange;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.holidayanalyzer.service.HolidayFixtures.holiday;
+import static com.holidayanalyzer.service.HolidayFixtures.region;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RegionCalendarIndexTest {
+
+    private final SchoolHolidayRepository schoolHolidayRepository = mock(SchoolHolidayRepository.class);
+    private final HolidayRepository holidayRepository = mock(HolidayRepository.class);
+    private final RegionRepository regionRepository = mock(RegionRepository.class);
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+
+    private final DataVersion dataVersion = new DataVersion();
+
+    private final RegionCalendarIndex index = new RegionCalendarIndex(schoolHolidayRepository, holidayRepository,
+            regionRepository, countryRepository, dataVersion, mock(PlatformTransactionManager.class), Duration.ofMinutes(10));
+
+    private Country germany;
+
+    @BeforeEach
+    void setUp() {
+        germany = new Country("DE", "Deutschland", 83_000_000L);
+        Region bavaria = region(germany, "DE-BY", null);
+        Region northRhine = region(germany, "DE-NW", null);
+
+        when(countryRepository.findByCode("DE")).thenReturn(Optional.of(germany));
+        when(regionRepository.findByCode("DE-BY")).thenReturn(Optional.of(bavaria));
+        when(regionRepository.findByCode("DE-NW")).thenReturn(Optional.of(northRhine));
+        when(regionRepository.findByCountryCode("DE")).thenReturn(List.of(bavaria, northRhine));
+        when(schoolHolidayRepository.findByCountryCodeWithRegion("DE")).thenReturn(List.of(
+                schoolHoliday(bavaria, LocalDate.of(2026, 8, 3), LocalDate.of(2026, 9, 14)),
+                schoolHoliday(northRhine, LocalDate.of(2026, 7, 20), LocalDate.of(2026, 9, 1)),
+                // Malformed row, holds no days
+                schoolHoliday(northRhine, LocalDate.of(2026, 12, 23), LocalDate.of(2026, 12, 20))));
+        when(holidayRepository.findByCountryCodeWithRegion("DE")).thenReturn(List.of(
+                holiday(germany, "Feiertag", LocalDate.of(2026, 1, 1), null),
+                holiday(germany, "Feiertag", LocalDate.of(2026, 10, 3), null),
+                holiday(germany, "Feiertag", LocalDate.of(2026, 1, 6), bavaria)));
+    }
+
+    @Test
+    void slicesAreShiftedToTheQueriedRange() {
+        // Starts before the first stored year, i.e. before the bitmaps' base
+        assertEquals(List.of(range(2026, 1, 1, 1, 1), range(2026, 1, 6, 1, 6)),
+                query("DE-BY:public", LocalDate.of(2025, 12, 30), LocalDate.of(2026, 1, 10)).getPeriods());
+        assertEquals(List.of(range(2026, 10, 3, 10, 3)),
+                query("DE-NW:public", LocalDate.of(2026, 10, 1), LocalDate.of(2026, 10, 5)).getPeriods());
+        assertEquals(0, query("DE-NW", LocalDate.of(2026, 12, 15), LocalDate.of(2026, 12, 31)).getMatchingDays());
+    }
+
+    @Test
+    void holidaysAreClippedAtTheRangeEdges() {
+        CalendarQueryResponse inside = query("DE-BY:school", LocalDate.of(2026, 8, 10), LocalDate.of(2026, 8, 20));
+        assertEquals(List.of(range(2026, 8, 10, 8, 20)), inside.getPeriods());
+        assertEquals(11, inside.getMatchingDays());
+
+        assertEquals(List.of(range(2026, 9, 10, 9, 14)),
+                query("DE-BY:school", LocalDate.of(2026, 9, 10), LocalDate.of(2026, 9, 30)).getPeriods());
+    }
+
+    @Test
+    void combinesTheRegionsOfACountry() {
+        LocalDate start = LocalDate.of(2026, 7, 1);
+        LocalDate end = LocalDate.of(2026, 9, 30);
+
+        assertEquals(List.of(range(2026, 7, 20, 9, 14)), query("DE:school", start, end).getPeriods());
+        assertEquals(List.of(range(2026, 8, 3, 9, 1)), query("all(DE:school)", start, end).getPeriods());
+        assertEquals(query("all(DE)", start, end).getPeriods(), query("DE-BY & DE-NW", start, end).getPeriods());
+    }
+
+    @Test
+    void eventsDropTheCountry() {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 12, 31);
+        query("DE", start, end);
+        query("DE-BY", start, end);
+        verify(holidayRepository, times(1)).findByCountryCodeWithRegion("DE");
+
+        publish(HolidayDataChangedEvent.country("DE"));
+        query("DE", start, end);
+
+        verify(holidayRepository, times(2)).findByCountryCodeWithRegion("DE");
+    }
+
+    @Test
+    void eventDuringBuildIsNotCached() {
+        when(countryRepository.findByCode("DE")).thenAnswer(invocation -> {
+            // A write lands while the calendars are being built
+            publish(HolidayDataChangedEvent.country("DE"));
+            return Optional.of(germany);
+        });
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        LocalDate end = LocalDate.of(2026, 12, 31);
+
+        query("DE", start, end);
+        query("DE", start, end);
+
+        verify(holidayRepository, times(2)).findByCountryCodeWithRegion("DE");
+    }
+
+    private CalendarQueryResponse query(String expression, LocalDate start, LocalDate end) {
+        return index.query(expression, start, end);
+    }
+
+    private void publish(HolidayDataChangedEvent event) {
+        dataVersion.onHolidayDataChanged(event);
+        index.onHolidayDataChanged(event);
+    }
+
+    private static DateRange range(int year, int fromMonth, int fromDay, int toMonth, int toDay) {
+        return new DateRange(LocalDate.of(year, fromMonth, fromDay), LocalDate.of(year, toMonth, toDay));
+    }
+
+    private static SchoolHoliday schoolHoliday(Region region, LocalDate start, LocalDate end) {
+        SchoolHoliday sh = new SchoolHoliday();
+        sh.setName("Ferien");
+        sh.setStartDate(start);
+        sh.setEndDate(end);
+        sh.setYear(start.getYear());
+        sh.setRegion(region);
+        return sh;
+    }
+}
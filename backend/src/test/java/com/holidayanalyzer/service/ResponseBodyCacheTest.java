@@ -0,0 +1,33 @@
+package com.holidayanalyzer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResponseBodyCacheTest {
+
+    @Test
+    void servesSerializedAndGzippedBytesUntilDataChanges() throws Exception {
+        ResponseBodyCache cache = new ResponseBodyCache(new ObjectMapper(), Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        ResponseBodyCache.CachedBody body = cache.get("countries", () -> List.of("DE-" + loads.incrementAndGet()));
+        cache.get("countries", () -> List.of("DE-" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+        assertArrayEquals("[\"DE-1\"]".getBytes(), body.json());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.gzip()))) {
+            assertArrayEquals(body.json(), in.readAllBytes());
+        }
+
+        cache.onHolidayDataChanged(HolidayDataChangedEvent.country("DE"));
+        assertArrayEquals("[\"DE-2\"]".getBytes(), cache.get("countries", () -> List.of("DE-" + loads.incrementAndGet())).json());
+    }
+}
@@ -0,0 +1,119 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.UpcomingHoliday;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.holidayanalyzer.service.HolidayFixtures.holiday;
+import static com.holidayanalyzer.service.HolidayFixtures.region;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UpcomingHolidayIndexTest {
+
+    private final HolidayRepository holidayRepository = mock(HolidayRepository.class);
+    private final SchoolHolidayRepository schoolHolidayRepository = mock(SchoolHolidayRepository.class);
+    private final RegionRepository regionRepository = mock(RegionRepository.class);
+    private final DataVersion dataVersion = new DataVersion();
+
+    private final UpcomingHolidayIndex index = new UpcomingHolidayIndex(holidayRepository, schoolHolidayRepository,
+            regionRepository, dataVersion, mock(PlatformTransactionManager.class), Duration.ofMinutes(10));
+
+    private final List<Holiday> holidays = new ArrayList<>();
+    private Country germany;
+    private Region bavaria;
+    private Region northRhine;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        germany = new Country("DE", "Deutschland", 1_000L);
+        bavaria = region(germany, "DE-BY", 400L);
+        northRhine = region(germany, "DE-NW", 600L);
+        today = LocalDate.now();
+
+        holidays.add(holiday(germany, "Yesterday", today.minusDays(1), null));
+        holidays.add(holiday(germany, "Today", today, null));
+        holidays.add(holiday(germany, "Last day", today.plusDays(6), bavaria));
+        holidays.add(holiday(germany, "Last day", today.plusDays(6), northRhine));
+        holidays.add(holiday(germany, "After the window", today.plusDays(7), null));
+
+        when(regionRepository.findAllWithCountry()).thenReturn(List.of(bavaria, northRhine));
+        when(holidayRepository.findByDateRangeWithRegion(today, today.plusDays(UpcomingHolidayIndex.MAX_DAYS - 1L)))
+                .thenAnswer(invocation -> List.copyOf(holidays));
+        when(schoolHolidayRepository.findByDateRangeWithRegion(any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void windowStartsTodayAndSpansTheGivenDays() {
+        List<UpcomingHoliday> upcoming = index.findUpcoming(7, List.of(), List.of());
+
+        assertEquals(List.of("Today", "Last day"), upcoming.stream().map(UpcomingHoliday::getName).toList());
+        // Regional rows of one holiday are grouped into one entry
+        assertEquals(List.of("DE-BY", "DE-NW"), upcoming.get(1).getRegions());
+        assertEquals(1_000L, upcoming.get(1).getAffectedPopulation());
+
+        assertEquals(List.of("Today"), index.findUpcoming(1, List.of(), List.of()).stream().map(UpcomingHoliday::getName).toList());
+        assertEquals(3, index.findUpcoming(8, List.of(), List.of()).size());
+    }
+
+    @Test
+    void eventsInvalidateTheIndex() {
+        index.findUpcoming(7, List.of(), List.of());
+        holidays.add(holiday(germany, "Added", today.plusDays(2), null));
+        // Still the cached index until the write's event arrives
+        assertEquals(2, index.findUpcoming(7, List.of(), List.of()).size());
+
+        publish(HolidayDataChangedEvent.country("DE"));
+
+        assertEquals(List.of("Today", "Added", "Last day"),
+                index.findUpcoming(7, List.of(), List.of()).stream().map(UpcomingHoliday::getName).toList());
+        verify(holidayRepository, times(2)).findByDateRangeWithRegion(any(), any());
+    }
+
+    @Test
+    void eventDuringBuildIsNotKept() {
+        when(regionRepository.findAllWithCountry()).thenAnswer(invocation -> {
+            // A write lands while the index is being built
+            publish(HolidayDataChangedEvent.country("DE"));
+            return List.of(bavaria, northRhine);
+        });
+
+        index.findUpcoming(7, List.of(), List.of());
+        index.findUpcoming(7, List.of(), List.of());
+
+        verify(holidayRepository, times(2)).findByDateRangeWithRegion(any(), any());
+    }
+
+    @Test
+    void callersGetTheirOwnCopies() {
+        UpcomingHoliday lastDay = index.findUpcoming(7, List.of(), List.of()).get(1);
+        lastDay.getRegions().clear();
+        lastDay.setAffectedPopulation(0);
+
+        UpcomingHoliday again = index.findUpcoming(7, List.of(), List.of()).get(1);
+        assertEquals(List.of("DE-BY", "DE-NW"), again.getRegions());
+        assertEquals(1_000L, again.getAffectedPopulation());
+    }
+
+    private void publish(HolidayDataChangedEvent event) {
+        dataVersion.onHolidayDataChanged(event);
+        index.onHolidayDataChanged(event);
+    }
+}
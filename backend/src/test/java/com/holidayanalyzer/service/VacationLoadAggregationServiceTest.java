@@ -0,0 +1,95 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.AggregatedVacationLoadResponse;
+import com.holidayanalyzer.dto.AggregatedVacationLoadResponse.CountrySubtotal;
+import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
+import com.holidayanalyzer.dto.VacationLoadResponse.WeeklyLoad;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.repository.CountryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Merges two countries over two ISO weeks (Monday August 3 to Sunday August 16, 2026):
+ * DE has school holidays in the first week and a public holiday on its Wednesday, AT has
+ * school holidays from Thursday to the next Wednesday.
+ */
+class VacationLoadAggregationServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 8, 3);
+    private static final LocalDate END = LocalDate.of(2026, 8, 16);
+
+    private final VacationLoadService vacationLoadService = mock(VacationLoadService.class);
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+
+    private final VacationLoadAggregationService service = new VacationLoadAggregationService(vacationLoadService,
+            countryRepository, mock(PlatformTransactionManager.class), 2);
+
+    @BeforeEach
+    void setUp() {
+        Country germany = new Country("DE", "Deutschland", 83_000_000L);
+        Country austria = new Country("AT", "Österreich", 9_000_000L);
+        when(countryRepository.findByCode("DE")).thenReturn(Optional.of(germany));
+        when(countryRepository.findByCode("AT")).thenReturn(Optional.of(austria));
+        when(countryRepository.findAll()).thenReturn(List.of(germany, austria));
+
+        VacationLoadEngine de = new VacationLoadEngine(START, END);
+        de.addSchoolHoliday(LocalDate.of(2026, 8, 3), LocalDate.of(2026, 8, 9), 100L, "Bayern: Sommerferien");
+        de.addPublicHoliday(LocalDate.of(2026, 8, 5), 1_000L, "Feiertag");
+        VacationLoadEngine at = new VacationLoadEngine(START, END);
+        at.addSchoolHoliday(LocalDate.of(2026, 8, 6), LocalDate.of(2026, 8, 12), 50L, "Wien: Sommerferien");
+        when(vacationLoadService.loadEngine("DE", START, END)).thenReturn(de);
+        when(vacationLoadService.loadEngine("AT", START, END)).thenReturn(at);
+    }
+
+    @Test
+    void mergesDailyAndWeeklyLoads() {
+        AggregatedVacationLoadResponse response = service.aggregate(List.of("DE", "AT"), START, END);
+
+        assertEquals(92_000_000L, response.getTotalPopulation());
+        List<DailyLoad> daily = response.getDailyLoads();
+        assertEquals(14, daily.size());
+        assertEquals(List.of(100L, 100L, 100L, 150L, 150L, 150L, 150L, 50L, 50L, 50L, 0L, 0L, 0L, 0L),
+                daily.stream().map(DailyLoad::getSchoolHolidayPopulation).toList());
+        assertEquals(1_100L, daily.get(2).getTotalPopulation());
+
+        List<WeeklyLoad> weekly = service.computeAggregation(List.of("DE", "AT"), START, END)
+                .combined().toConsecutiveWeeklyLoads();
+        assertEquals(2, weekly.size());
+        assertEquals(150L, weekly.get(0).getSchoolHolidayPopulation());
+        assertEquals(1_000L, weekly.get(0).getPublicHolidayPopulation());
+        assertEquals(50L, weekly.get(1).getSchoolHolidayPopulation());
+        assertEquals(LocalDate.of(2026, 8, 10), weekly.get(1).getWeekStart());
+    }
+
+    @Test
+    void reportsSubtotalsPerCountry() {
+        List<CountrySubtotal> countries = service.aggregate(null, START, END).getCountries();
+
+        assertEquals(List.of("DE", "AT"), countries.stream().map(CountrySubtotal::getCountryCode).toList());
+        CountrySubtotal germany = countries.get(0);
+        assertEquals(700L, germany.getSchoolHolidayPersonDays());
+        assertEquals(1_000L, germany.getPublicHolidayPersonDays());
+        assertEquals(LocalDate.of(2026, 8, 5), germany.getPeakDate());
+        assertEquals(1_100L, germany.getPeakPopulation());
+        CountrySubtotal austria = countries.get(1);
+        assertEquals(350L, austria.getSchoolHolidayPersonDays());
+        // Ties keep the first day
+        assertEquals(LocalDate.of(2026, 8, 6), austria.getPeakDate());
+    }
+
+    @Test
+    void unknownCountryIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.aggregate(List.of("DE", "XX"), START, END));
+    }
+}
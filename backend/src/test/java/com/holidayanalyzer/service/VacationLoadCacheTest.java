@@ -0,0 +1,116 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.VacationLoadResponse;
+import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
+import com.holidayanalyzer.dto.VacationLoadResponse.WeeklyLoad;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VacationLoadCacheTest {
+
+    private final VacationLoadService vacationLoadService = mock(VacationLoadService.class);
+    private final DataVersion dataVersion = new DataVersion();
+    private final VacationLoadCache cache = new VacationLoadCache(vacationLoadService, dataVersion, 10, Duration.ofMinutes(10));
+
+    @BeforeEach
+    void setUp() {
+        when(vacationLoadService.calculateVacationLoad("DE", List.of(), 2026)).thenAnswer(invocation -> response(2026));
+        when(vacationLoadService.calculateVacationLoad("DE", List.of(), 2027)).thenAnswer(invocation -> response(2027));
+    }
+
+    @Test
+    void hitsAreServedFromTheCache() {
+        cache.getVacationLoad("DE", List.of(), 2026);
+        VacationLoadResponse hit = cache.getVacationLoad("DE", List.of(), 2026);
+
+        assertEquals(2026, hit.getYear());
+        assertEquals(List.of("Bayern: Sommerferien"), hit.getWeeklyLoads().get(0).getActiveSchoolHolidays());
+        assertEquals(500L, hit.getDailyLoads().get(0).getSchoolHolidayPopulation());
+        verify(vacationLoadService, times(1)).calculateVacationLoad("DE", List.of(), 2026);
+        assertEquals(1L, cache.getStatistics().get("hits"));
+        assertEquals(1L, cache.getStatistics().get("misses"));
+    }
+
+    @Test
+    void callersCannotModifyCachedEntries() {
+        VacationLoadResponse first = cache.getVacationLoad("DE", List.of(), 2026);
+        first.getDailyLoads().get(0).setSchoolHolidayPopulation(0);
+        first.getWeeklyLoads().get(0).getActiveSchoolHolidays().clear();
+        first.setDailyLoads(List.of());
+
+        VacationLoadResponse second = cache.getVacationLoad("DE", List.of(), 2026);
+
+        assertEquals(500L, second.getDailyLoads().get(0).getSchoolHolidayPopulation());
+        assertEquals(List.of("Bayern: Sommerferien"), second.getWeeklyLoads().get(0).getActiveSchoolHolidays());
+    }
+
+    @Test
+    void eventsEvictTheAffectedYearOnly() {
+        cache.getVacationLoad("DE", List.of(), 2026);
+        cache.getVacationLoad("DE", List.of(), 2027);
+
+        publish(HolidayDataChangedEvent.year("DE", 2026));
+        cache.getVacationLoad("DE", List.of(), 2026);
+        cache.getVacationLoad("DE", List.of(), 2027);
+
+        verify(vacationLoadService, times(2)).calculateVacationLoad("DE", List.of(), 2026);
+        verify(vacationLoadService, times(1)).calculateVacationLoad("DE", List.of(), 2027);
+        assertEquals(1L, cache.getStatistics().get("invalidations"));
+
+        publish(HolidayDataChangedEvent.country("DE"));
+        cache.getVacationLoad("DE", List.of(), 2027);
+        verify(vacationLoadService, times(2)).calculateVacationLoad("DE", List.of(), 2027);
+    }
+
+    @Test
+    void loadOverlappingAnEventIsNotServedAgain() {
+        when(vacationLoadService.calculateVacationLoad("DE", List.of(), 2026)).thenAnswer(invocation -> {
+            // A write lands while the response is being calculated
+            publish(HolidayDataChangedEvent.year("DE", 2026));
+            return response(2026);
+        }).thenAnswer(invocation -> response(2026));
+
+        cache.getVacationLoad("DE", List.of(), 2026);
+        cache.getVacationLoad("DE", List.of(), 2026);
+        cache.getVacationLoad("DE", List.of(), 2026);
+
+        // The first call loads twice, as its own result already predates the event
+        verify(vacationLoadService, times(2)).calculateVacationLoad("DE", List.of(), 2026);
+    }
+
+    private void publish(HolidayDataChangedEvent event) {
+        dataVersion.onHolidayDataChanged(event);
+        cache.onHolidayDataChanged(event);
+    }
+
+    private static VacationLoadResponse response(int year) {
+        WeeklyLoad week = new WeeklyLoad();
+        week.setWeekNumber(32);
+        week.setSchoolHolidayPopulation(500L);
+        week.setTotalPopulation(500L);
+        week.setActiveSchoolHolidays(new ArrayList<>(List.of("Bayern: Sommerferien")));
+        week.setActivePublicHolidays(new ArrayList<>());
+        DailyLoad day = new DailyLoad();
+        day.setDate(LocalDate.of(year, 8, 3));
+        day.setSchoolHolidayPopulation(500L);
+        day.setTotalPopulation(500L);
+
+        VacationLoadResponse response = new VacationLoadResponse();
+        response.setYear(year);
+        response.setCountryPopulation(1_000L);
+        response.setWeeklyLoads(new ArrayList<>(List.of(week)));
+        response.setDailyLoads(new ArrayList<>(List.of(day)));
+        return response;
+    }
+}
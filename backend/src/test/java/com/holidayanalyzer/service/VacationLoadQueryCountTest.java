@@ -0,0 +1,171 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.controller.VacationAnalysisController;
+import com.holidayanalyzer.controller.VacationAnalysisController.VacationAnalysisResponse;
+import com.holidayanalyzer.dto.VacationLoadResponse;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the SQL statements of the analysis read paths against an in-memory database, so
+ * that lazy region and country loads per row cannot creep back in. The schema is generated
+ * from the entity mapping; {@code year} is a column name, hence the H2 keyword override.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count;NON_KEYWORDS=YEAR",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class VacationLoadQueryCountTest {
+
+    private static final int REGIONS = 8;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SchoolHolidayRepository schoolHolidayRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Country country = new Country();
+        country.setCode("DE");
+        country.setName("Deutschland");
+        country.setPopulation(80_000_000L);
+        entityManager.persist(country);
+
+        for (int i = 0; i < REGIONS; i++) {
+            Region region = new Region();
+            region.setCode("DE-R" + i);
+            region.setName("Region " + i);
+            region.setPopulation(1_000_000L * (i + 1));
+            region.setCountry(country);
+            entityManager.persist(region);
+
+            entityManager.persist(schoolHoliday(region, "Sommerferien", LocalDate.of(2026, 7, 1 + i), LocalDate.of(2026, 8, 10 + i)));
+            entityManager.persist(schoolHoliday(region, "Herbstferien", LocalDate.of(2026, 10, 12), LocalDate.of(2026, 10, 23)));
+            entityManager.persist(holiday(country, region, LocalDate.of(2026, 11, 1), "Allerheiligen"));
+        }
+        entityManager.persist(holiday(country, null, LocalDate.of(2026, 10, 3), "Tag der Deutschen Einheit"));
+        entityManager.persist(holiday(country, null, LocalDate.of(2026, 12, 25), "1. Weihnachtstag"));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void yearlyLoadLooksUpCountryAndRunsOneQueryPerTable() {
+        VacationLoadService service = new VacationLoadService(schoolHolidayRepository, holidayRepository,
+                countryRepository, regionRepository, new HolidayLabelDictionary(), new SimpleMeterRegistry());
+
+        VacationLoadResponse response = service.calculateVacationLoad("DE", 2026);
+
+        assertNotNull(response.getPeakPeriod());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void vacationAnalysisRunsOneQueryPerTable() {
+        VacationAnalysisController controller = new VacationAnalysisController(holidayRepository, schoolHolidayRepository,
+                regionRepository);
+
+        VacationAnalysisResponse response = controller.getVacationAnalysis("DE", "2026-01-01", "2026-12-31", null);
+
+        assertEquals(REGIONS + 2, response.getHolidays().size());
+        assertEquals(2 * REGIONS, response.getSchoolHolidays().size());
+        assertTrue(response.getSchoolHolidays().stream().allMatch(sh -> sh.getRegion().getPopulation() != null));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void subdivisionAnalysisChecksTheRegionAndRunsOneQueryPerTable() {
+        VacationAnalysisController controller = new VacationAnalysisController(holidayRepository, schoolHolidayRepository,
+                regionRepository);
+
+        VacationAnalysisResponse response = controller.getVacationAnalysis("DE", "2026-01-01", "2026-12-31", "DE-R3");
+
+        assertEquals(3, response.getHolidays().size());
+        assertEquals(2, response.getSchoolHolidays().size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void subdivisionOfAnotherCountryIsRejected() {
+        VacationAnalysisController controller = new VacationAnalysisController(holidayRepository, schoolHolidayRepository,
+                regionRepository);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> controller.getVacationAnalysis("AT", "2026-01-01", "2026-12-31", "DE-R3"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    private static SchoolHoliday schoolHoliday(Region region, String name, LocalDate start, LocalDate end) {
+        SchoolHoliday sh = new SchoolHoliday();
+        sh.setName(name);
+        sh.setStartDate(start);
+        sh.setEndDate(end);
+        sh.setYear(start.getYear());
+        sh.setRegion(region);
+        return sh;
+    }
+
+    private static Holiday holiday(Country country, Region region, LocalDate date, String name) {
+        Holiday h = new Holiday();
+        h.setCountry(country);
+        h.setCountryCode(country.getCode());
+        h.setRegion(region);
+        h.setDate(date);
+        h.setLocalName(name);
+        h.setEnglishName(name);
+        h.setGlobalHoliday(region == null);
+        h.setYear(date.getYear());
+        return h;
+    }
+}
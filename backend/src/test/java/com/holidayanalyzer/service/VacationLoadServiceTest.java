@@ -0,0 +1,313 @@
+package com.holidayanalyzer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.holidayanalyzer.dto.HolidayView;
+import com.holidayanalyzer.dto.SchoolHolidayView;
+import com.holidayanalyzer.dto.VacationLoadResponse;
+import com.holidayanalyzer.dto.VacationLoadResponse.DailyLoad;
+import com.holidayanalyzer.dto.VacationLoadResponse.PeakPeriod;
+import com.holidayanalyzer.dto.VacationLoadResponse.WeeklyLoad;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VacationLoadServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void engineMatchesLegacyDailyAndWeeklyOutput() throws Exception {
+        Random random = new Random(42);
+        for (int year : new int[]{2020, 2025, 2026, 2027}) {
+            for (int run = 0; run < 20; run++) {
+                Country country = new Country("DE", "Germany", 83_240_000L);
+                List<Region> regions = randomRegions(random, country);
+                List<SchoolHoliday> schoolHolidays = randomSchoolHolidays(random, regions, year);
+                List<Holiday> holidays = randomHolidays(random, country, regions, year);
+
+                VacationLoadResponse actual = service(country, schoolHolidays, holidays)
+                        .calculateVacationLoad("DE", year);
+
+                Map<LocalDate, LegacyDay> legacy = legacyDailyData(schoolHolidays, holidays, year);
+                assertEquals(objectMapper.writeValueAsString(legacyWeekly(legacy)),
+                        objectMapper.writeValueAsString(actual.getWeeklyLoads()));
+                assertEquals(objectMapper.writeValueAsString(legacyDaily(legacy)),
+                        objectMapper.writeValueAsString(actual.getDailyLoads()));
+                assertEquals(objectMapper.writeValueAsString(legacyPeak(legacyWeekly(legacy))),
+                        objectMapper.writeValueAsString(actual.getPeakPeriod()));
+            }
+        }
+    }
+
+    @Test
+    void rangeYieldsContinuousDailyAndConsecutiveWeeklySeries() {
+        LocalDate start = LocalDate.of(2025, 12, 24);
+        LocalDate end = LocalDate.of(2027, 1, 6);
+        VacationLoadEngine engine = new VacationLoadEngine(start, end);
+        engine.addSchoolHoliday(LocalDate.of(2025, 12, 22), LocalDate.of(2026, 1, 5), 1_000L, "Bayern: Weihnachtsferien");
+        engine.addSchoolHoliday(LocalDate.of(2026, 12, 23), LocalDate.of(2027, 1, 8), 2_000L, "Bayern: Weihnachtsferien");
+
+        List<DailyLoad> daily = engine.toDailyLoads();
+        assertEquals(379, daily.size());
+        assertEquals(1_000L, daily.get(0).getSchoolHolidayPopulation());
+        assertEquals(0L, daily.get(13).getSchoolHolidayPopulation());
+        assertEquals(2_000L, daily.get(daily.size() - 1).getSchoolHolidayPopulation());
+
+        List<WeeklyLoad> weekly = engine.toConsecutiveWeeklyLoads();
+        assertEquals(LocalDate.of(2025, 12, 22), weekly.get(0).getWeekStart());
+        assertEquals(LocalDate.of(2027, 1, 4), weekly.get(weekly.size() - 1).getWeekStart());
+        for (int i = 1; i < weekly.size(); i++) {
+            assertEquals(weekly.get(i - 1).getWeekStart().plusWeeks(1), weekly.get(i).getWeekStart());
+        }
+    }
+
+    @Test
+    void regionScopeQueriesOnlySelectedRegionsAndCountsTheirPopulation() {
+        Country country = new Country("DE", "Germany", 83_240_000L);
+        Region bayern = new Region();
+        bayern.setCode("DE-BY");
+        bayern.setName("Bayern");
+        bayern.setCountry(country);
+        bayern.setPopulation(13_000_000L);
+
+        SchoolHoliday summer = new SchoolHoliday();
+        summer.setName("Sommerferien");
+        summer.setRegion(bayern);
+        summer.setStartDate(LocalDate.of(2026, 8, 3));
+        summer.setEndDate(LocalDate.of(2026, 9, 14));
+        Holiday unity = new Holiday();
+        unity.setCountry(country);
+        unity.setLocalName("Tag der Deutschen Einheit");
+        unity.setDate(LocalDate.of(2026, 10, 3));
+
+        SchoolHolidayRepository schoolHolidayRepository = mock(SchoolHolidayRepository.class);
+        HolidayRepository holidayRepository = mock(HolidayRepository.class);
+        CountryRepository countryRepository = mock(CountryRepository.class);
+        RegionRepository regionRepository = mock(RegionRepository.class);
+        when(countryRepository.findByCode("DE")).thenReturn(Optional.of(country));
+        when(regionRepository.findByCodeIn(List.of("DE-BY"))).thenReturn(List.of(bayern));
+        when(schoolHolidayRepository.findViewsByRegionCodesAndYear(List.of("DE-BY"), 2026))
+                .thenReturn(List.of(SchoolHolidayView.of(summer)));
+        when(holidayRepository.findViewsByCountryCodeYearAndRegions("DE", 2026, List.of("DE-BY")))
+                .thenReturn(List.of(HolidayView.of(unity)));
+
+        VacationLoadResponse response = new VacationLoadService(schoolHolidayRepository, holidayRepository,
+                countryRepository, regionRepository, new HolidayLabelDictionary(), new SimpleMeterRegistry()).calculateVacationLoad("DE", List.of("DE-BY"), 2026);
+
+        assertEquals(13_000_000L, response.getCountryPopulation());
+        DailyLoad augustFourth = response.getDailyLoads().get(LocalDate.of(2026, 8, 4).getDayOfYear() - 1);
+        assertEquals(13_000_000L, augustFourth.getSchoolHolidayPopulation());
+        DailyLoad octoberThird = response.getDailyLoads().get(LocalDate.of(2026, 10, 3).getDayOfYear() - 1);
+        assertEquals(13_000_000L, octoberThird.getPublicHolidayPopulation());
+    }
+
+    @Test
+    void recordsOneSamplePerStage() {
+        Country country = new Country("DE", "Germany", 83_240_000L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        service(country, List.of(), List.of(), registry).calculateVacationLoad("DE", 2026);
+
+        for (String stage : List.of("fetch", "accumulate", "weekly", "daily", "peak")) {
+            assertEquals(1, registry.get("vacation.load.stage").tag("stage", stage).timer().count(), stage);
+        }
+    }
+
+    private VacationLoadService service(Country country, List<SchoolHoliday> schoolHolidays, List<Holiday> holidays) {
+        return service(country, schoolHolidays, holidays, new SimpleMeterRegistry());
+    }
+
+    private VacationLoadService service(Country country, List<SchoolHoliday> schoolHolidays, List<Holiday> holidays,
+                                        SimpleMeterRegistry registry) {
+        SchoolHolidayRepository schoolHolidayRepository = mock(SchoolHolidayRepository.class);
+        HolidayRepository holidayRepository = mock(HolidayRepository.class);
+        CountryRepository countryRepository = mock(CountryRepository.class);
+        when(countryRepository.findByCode("DE")).thenReturn(Optional.of(country));
+        when(schoolHolidayRepository.findViewsByCountryCodeAndYear(eq("DE"), anyInt()))
+                .thenReturn(schoolHolidays.stream().map(SchoolHolidayView::of).toList());
+        when(holidayRepository.findViewsByCountryCodeAndYear(eq("DE"), anyInt()))
+                .thenReturn(holidays.stream().map(HolidayView::of).toList());
+        return new VacationLoadService(schoolHolidayRepository, holidayRepository, countryRepository,
+                mock(RegionRepository.class), new HolidayLabelDictionary(), registry);
+    }
+
+    private List<Region> randomRegions(Random random, Country country) {
+        List<Region> regions = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Region region = new Region();
+            region.setCode("DE-" + i);
+            region.setName("Region " + i);
+            region.setCountry(country);
+            region.setPopulation(random.nextInt(10) == 0 ? null : 100_000L + random.nextInt(10_000_000));
+            regions.add(region);
+        }
+        return regions;
+    }
+
+    private List<SchoolHoliday> randomSchoolHolidays(Random random, List<Region> regions, int year) {
+        String[] names = {"Winterferien", "Osterferien", "Pfingstferien", "Sommerferien", "Herbstferien", "Weihnachtsferien"};
+        List<SchoolHoliday> result = new ArrayList<>();
+        for (int i = 0; i < 40 + random.nextInt(60); i++) {
+            SchoolHoliday sh = new SchoolHoliday();
+            sh.setName(names[random.nextInt(names.length)]);
+            sh.setRegion(regions.get(random.nextInt(regions.size())));
+            LocalDate start = LocalDate.of(year, 1, 1).plusDays(random.nextInt(400) - 20);
+            sh.setStartDate(start);
+            sh.setEndDate(start.plusDays(random.nextInt(50)));
+            sh.setYear(year);
+            result.add(sh);
+        }
+        return result;
+    }
+
+    private List<Holiday> randomHolidays(Random random, Country country, List<Region> regions, int year) {
+        List<Holiday> result = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Holiday h = new Holiday();
+            h.setCountry(country);
+            h.setCountryCode("DE");
+            h.setLocalName("Feiertag " + random.nextInt(20));
+            h.setDate(LocalDate.of(year, 1, 1).plusDays(random.nextInt(380) - 5));
+            h.setRegion(random.nextBoolean() ? regions.get(random.nextInt(regions.size())) : null);
+            h.setYear(year);
+            result.add(h);
+        }
+        return result;
+    }
+
+    // Reference copy of the per-day HashMap implementation the engine replaced
+
+    private static class LegacyDay {
+        long schoolHolidayPopulation = 0;
+        long publicHolidayPopulation = 0;
+        Set<String> schoolHolidayDetails = new HashSet<>();
+        Set<String> publicHolidayDetails = new HashSet<>();
+    }
+
+    private Map<LocalDate, LegacyDay> legacyDailyData(List<SchoolHoliday> schoolHolidays, List<Holiday> publicHolidays, int year) {
+        Map<LocalDate, LegacyDay> dailyData = new LinkedHashMap<>();
+        for (LocalDate date = LocalDate.of(year, 1, 1); !date.isAfter(LocalDate.of(year, 12, 31)); date = date.plusDays(1)) {
+            dailyData.put(date, new LegacyDay());
+        }
+        for (SchoolHoliday sh : schoolHolidays) {
+            if (sh.getRegion() == null || sh.getRegion().getPopulation() == null) continue;
+            for (LocalDate date = sh.getStartDate(); !date.isAfter(sh.getEndDate()); date = date.plusDays(1)) {
+                if (dailyData.containsKey(date)) {
+                    LegacyDay data = dailyData.get(date);
+                    data.schoolHolidayPopulation += sh.getRegion().getPopulation();
+                    data.schoolHolidayDetails.add(sh.getRegion().getName() + ": " + sh.getName());
+                }
+            }
+        }
+        for (Holiday h : publicHolidays) {
+            long population = h.getRegion() != null && h.getRegion().getPopulation() != null
+                    ? h.getRegion().getPopulation() : h.getCountry().getPopulation();
+            if (dailyData.containsKey(h.getDate())) {
+                LegacyDay data = dailyData.get(h.getDate());
+                data.publicHolidayPopulation += population;
+                data.publicHolidayDetails.add(h.getLocalName());
+            }
+        }
+        return dailyData;
+    }
+
+    private List<WeeklyLoad> legacyWeekly(Map<LocalDate, LegacyDay> dailyData) {
+        Map<Integer, WeeklyLoad> weekMap = new TreeMap<>();
+        for (Map.Entry<LocalDate, LegacyDay> entry : dailyData.entrySet()) {
+            LocalDate date = entry.getKey();
+            LegacyDay data = entry.getValue();
+            WeeklyLoad week = weekMap.computeIfAbsent(date.get(WeekFields.ISO.weekOfWeekBasedYear()), k -> {
+                WeeklyLoad w = new WeeklyLoad();
+                w.setWeekNumber(k);
+                w.setWeekStart(date.with(DayOfWeek.MONDAY));
+                w.setWeekEnd(date.with(DayOfWeek.SUNDAY));
+                w.setActiveSchoolHolidays(new ArrayList<>());
+                w.setActivePublicHolidays(new ArrayList<>());
+                return w;
+            });
+            week.setSchoolHolidayPopulation(Math.max(week.getSchoolHolidayPopulation(), data.schoolHolidayPopulation));
+            week.setPublicHolidayPopulation(week.getPublicHolidayPopulation() + data.publicHolidayPopulation);
+            for (String detail : data.schoolHolidayDetails) {
+                if (!week.getActiveSchoolHolidays().contains(detail)) week.getActiveSchoolHolidays().add(detail);
+            }
+            for (String detail : data.publicHolidayDetails) {
+                if (!week.getActivePublicHolidays().contains(detail)) week.getActivePublicHolidays().add(detail);
+            }
+        }
+        for (WeeklyLoad week : weekMap.values()) {
+            week.setTotalPopulation(week.getSchoolHolidayPopulation() + week.getPublicHolidayPopulation());
+        }
+        return new ArrayList<>(weekMap.values());
+    }
+
+    private List<DailyLoad> legacyDaily(Map<LocalDate, LegacyDay> dailyData) {
+        List<DailyLoad> result = new ArrayList<>();
+        dailyData.forEach((date, data) -> {
+            DailyLoad dl = new DailyLoad();
+            dl.setDate(date);
+            dl.setSchoolHolidayPopulation(data.schoolHolidayPopulation);
+            dl.setPublicHolidayPopulation(data.publicHolidayPopulation);
+            dl.setTotalPopulation(data.schoolHolidayPopulation + data.publicHolidayPopulation);
+            result.add(dl);
+        });
+        return result;
+    }
+
+    private PeakPeriod legacyPeak(List<WeeklyLoad> weeklyLoads) {
+        WeeklyLoad peakWeek = weeklyLoads.stream()
+                .max(Comparator.comparingLong(WeeklyLoad::getSchoolHolidayPopulation)).orElseThrow();
+        long threshold = (long) (peakWeek.getSchoolHolidayPopulation() * 0.8);
+        Map<Integer, WeeklyLoad> byNumber = new HashMap<>();
+        weeklyLoads.forEach(w -> byNumber.put(w.getWeekNumber(), w));
+        int startWeek = peakWeek.getWeekNumber();
+        while (startWeek > 1 && byNumber.containsKey(startWeek - 1)
+                && byNumber.get(startWeek - 1).getSchoolHolidayPopulation() >= threshold) startWeek--;
+        int endWeek = peakWeek.getWeekNumber();
+        while (endWeek < 53 && byNumber.containsKey(endWeek + 1)
+                && byNumber.get(endWeek + 1).getSchoolHolidayPopulation() >= threshold) endWeek++;
+
+        Set<String> holidayTypes = new HashSet<>();
+        for (WeeklyLoad w : weeklyLoads) {
+            if (w.getWeekNumber() < startWeek || w.getWeekNumber() > endWeek) continue;
+            for (String sh : w.getActiveSchoolHolidays()) {
+                for (String type : new String[]{"Sommerferien", "Osterferien", "Herbstferien", "Weihnachtsferien", "Winterferien", "Pfingstferien"}) {
+                    if (sh.contains(type)) {
+                        holidayTypes.add(type);
+                        break;
+                    }
+                }
+            }
+        }
+        PeakPeriod peak = new PeakPeriod();
+        peak.setStartWeek(startWeek);
+        peak.setEndWeek(endWeek);
+        peak.setStartDate(byNumber.get(startWeek).getWeekStart());
+        peak.setEndDate(byNumber.get(endWeek).getWeekEnd());
+        peak.setMaxPopulation(peakWeek.getSchoolHolidayPopulation());
+        peak.setDescription(String.format("Week %d-%d: %.1fM people on %s", startWeek, endWeek,
+                peakWeek.getSchoolHolidayPopulation() / 1_000_000.0, String.join(", ", holidayTypes)));
+        return peak;
+    }
+}
@@ -0,0 +1,123 @@
+package com.holidayanalyzer.service;
+
+import com.holidayanalyzer.dto.WeekendAnalysis;
+import com.holidayanalyzer.model.Country;
+import com.holidayanalyzer.model.Holiday;
+import com.holidayanalyzer.model.Region;
+import com.holidayanalyzer.model.SchoolHoliday;
+import com.holidayanalyzer.repository.CountryRepository;
+import com.holidayanalyzer.repository.HolidayRepository;
+import com.holidayanalyzer.repository.RegionRepository;
+import com.holidayanalyzer.repository.SchoolHolidayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.holidayanalyzer.service.HolidayFixtures.holiday;
+import static com.holidayanalyzer.service.HolidayFixtures.region;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ranks the four weekends of a five-week snapshot starting today. Region DE-NW is on school
+ * holidays over the first weekend, the Saturday of the second is a national holiday.
+ */
+class WeekendRankingServiceTest {
+
+    private final CountryRepository countryRepository = mock(CountryRepository.class);
+    private final RegionRepository regionRepository = mock(RegionRepository.class);
+    private final SchoolHolidayRepository schoolHolidayRepository = mock(SchoolHolidayRepository.class);
+    private final HolidayRepository holidayRepository = mock(HolidayRepository.class);
+    private final DataVersion dataVersion = new DataVersion();
+
+    private final DailyLoadSnapshotService snapshotService = new DailyLoadSnapshotService(countryRepository,
+            regionRepository, schoolHolidayRepository, holidayRepository, dataVersion,
+            mock(PlatformTransactionManager.class), 35, Duration.ofMinutes(10));
+    private final WeekendRankingService service = new WeekendRankingService(snapshotService);
+
+    private final List<Holiday> holidays = new ArrayList<>();
+    private Country germany;
+    private LocalDate firstSaturday;
+
+    @BeforeEach
+    void setUp() {
+        germany = new Country("DE", "Deutschland", 1_000L);
+        Region bavaria = region(germany, "DE-BY", 400L);
+        Region northRhine = region(germany, "DE-NW", 600L);
+        firstSaturday = LocalDate.now().with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+
+        SchoolHoliday autumn = new SchoolHoliday();
+        autumn.setName("Herbstferien");
+        autumn.setStartDate(firstSaturday.minusDays(5));
+        autumn.setEndDate(firstSaturday.plusDays(1));
+        autumn.setYear(firstSaturday.getYear());
+        autumn.setRegion(northRhine);
+        holidays.add(holiday(germany, "Feiertag", firstSaturday.plusWeeks(1), null));
+
+        when(countryRepository.findAll()).thenReturn(List.of(germany));
+        when(regionRepository.findAllWithCountry()).thenReturn(List.of(bavaria, northRhine));
+        when(schoolHolidayRepository.findByDateRangeWithRegion(any(), any())).thenReturn(List.of(autumn));
+        when(holidayRepository.findByDateRangeWithRegion(any(), any())).thenAnswer(invocation -> List.copyOf(holidays));
+    }
+
+    @Test
+    void ranksQuietestWeekendsFirst() {
+        List<WeekendAnalysis> ranked = service.findBestWeekends(3, List.of("DE"), List.of(), 4);
+
+        // The two free weekends in date order, then the half-crowded one
+        assertEquals(List.of(firstSaturday.plusWeeks(2), firstSaturday.plusWeeks(3), firstSaturday.plusWeeks(1)),
+                ranked.stream().map(WeekendAnalysis::getStartDate).toList());
+        WeekendAnalysis holidayWeekend = ranked.get(2);
+        assertEquals(500L, holidayWeekend.getAffectedPopulation());
+        assertEquals(50.0, holidayWeekend.getLoadPercentage());
+        assertEquals(List.of("DE-BY", "DE-NW"), holidayWeekend.getAffectedRegions());
+
+        WeekendAnalysis schoolWeekend = service.findBestWeekends(4, List.of(), List.of("DE-NW"), 4).get(3);
+        assertEquals(firstSaturday, schoolWeekend.getStartDate());
+        assertEquals(100.0, schoolWeekend.getLoadPercentage());
+    }
+
+    @Test
+    void eventsInvalidateTheSnapshot() {
+        assertEquals(firstSaturday.plusWeeks(1), service.findBestWeekends(4, List.of("DE"), List.of(), 4).get(2).getStartDate());
+
+        holidays.add(holiday(germany, "Feiertag", firstSaturday.plusWeeks(2), null));
+        holidays.add(holiday(germany, "Feiertag", firstSaturday.plusWeeks(2).plusDays(1), null));
+        // Still the cached snapshot until the write's event arrives
+        assertEquals(firstSaturday.plusWeeks(2), service.findBestWeekends(1, List.of("DE"), List.of(), 4).get(0).getStartDate());
+        publish(HolidayDataChangedEvent.country("DE"));
+
+        assertEquals(firstSaturday.plusWeeks(3), service.findBestWeekends(1, List.of("DE"), List.of(), 4).get(0).getStartDate());
+        verify(countryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void eventDuringBuildIsNotKept() {
+        when(countryRepository.findAll()).thenAnswer(invocation -> {
+            // A write lands while the snapshot is being built
+            publish(HolidayDataChangedEvent.country("DE"));
+            return List.of(germany);
+        });
+
+        snapshotService.getSnapshot();
+        snapshotService.getSnapshot();
+
+        verify(countryRepository, times(2)).findAll();
+    }
+
+    private void publish(HolidayDataChangedEvent event) {
+        dataVersion.onHolidayDataChanged(event);
+        snapshotService.onHolidayDataChanged(event);
+    }
+}
@@ -297,50 +297,37 @@ export const api = {
       return Promise.resolve(analyses);
     }
 
-    // Determine which years we need to fetch
-    const startYear = new Date(startDate).getFullYear();
-    const endYear = new Date(endDate).getFullYear();
     const countryCode = country || 'DE';
 
     // Create a map to store all day analyses
     const allDaysMap = new Map<string, DayAnalysis>();
 
-    // Fetch data for each year separately
-    for (let year = startYear; year <= endYear; year++) {
-      try {
-        // Fetch vacation load data for this year (enthält bereits Schulferien + Feiertage berechnet)
-        const vacationResponse = await fetch(
-            `${API_BASE}/api/vacation-load?countryCode=${countryCode}&year=${year}`
-        );
-        const vacationData = await vacationResponse.json();
-
-        // Get country population from vacation data
-        const countryPopulation = vacationData.countryPopulation || 83240000;
-
-        // Transform dailyLoads to DayAnalysis
-        for (const dailyLoad of vacationData.dailyLoads) {
-          const dateStr = dailyLoad.date;
-          const date = new Date(dateStr);
-
-          // Only include dates in our range
-          if (date >= new Date(startDate) && date <= new Date(endDate)) {
-            const totalPop = dailyLoad.totalPopulation || 0;
-            const loadPercentage = countryPopulation > 0
-                ? Math.round((totalPop / countryPopulation) * 100)
-                : 0;
-
-            allDaysMap.set(dateStr, {
-              date: dateStr,
-              loadPercentage,
-              level: getLoadLevel(loadPercentage),
-              holidays: [],
-              schoolHolidays: []
-            });
-          }
-        }
-      } catch (error) {
-        console.error(`Error fetching vacation load for year ${year}:`, error);
+    try {
+      // Fetch one continuous vacation load series for the whole range (Schulferien + Feiertage bereits berechnet)
+      const rangeParams = new URLSearchParams({ countryCode, startDate, endDate });
+      const vacationResponse = await fetch(`${API_BASE}/api/vacation-load?${rangeParams}`);
+      const vacationData = await vacationResponse.json();
+
+      // Get country population from vacation data
+      const countryPopulation = vacationData.countryPopulation || 83240000;
+
+      // Transform dailyLoads to DayAnalysis
+      for (const dailyLoad of vacationData.dailyLoads) {
+        const totalPop = dailyLoad.totalPopulation || 0;
+        const loadPercentage = countryPopulation > 0
+            ? Math.round((totalPop / countryPopulation) * 100)
+            : 0;
+
+        allDaysMap.set(dailyLoad.date, {
+          date: dailyLoad.date,
+          loadPercentage,
+          level: getLoadLevel(loadPercentage),
+          holidays: [],
+          schoolHolidays: []
+        });
       }
+    } catch (error) {
+      console.error(`Error fetching vacation load for ${startDate} - ${endDate}:`, error);
     }
 
     // Now fetch holidays AND school holidays from new endpoint
@@ -53,6 +53,8 @@ export interface UpcomingHoliday {
   isGlobal: boolean;
   affectedPopulation: number;
   regions: string[];
+  endDate?: string;
+  type?: 'public' | 'school';
 }
 
 export interface SchoolHoliday {